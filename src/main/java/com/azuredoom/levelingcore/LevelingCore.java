@@ -1,11 +1,14 @@
 package com.azuredoom.levelingcore;
 
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.ResourceType;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.config.Interaction;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.util.Config;
 
 import java.nio.file.Path;
@@ -17,21 +20,35 @@ import javax.annotation.Nonnull;
 
 import com.azuredoom.levelingcore.api.LevelingCoreApi;
 import com.azuredoom.levelingcore.commands.*;
+import com.azuredoom.levelingcore.compat.PartyProviders;
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.config.internal.ConfigBootstrap;
+import com.azuredoom.levelingcore.events.LevelingEventBus;
 import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
 import com.azuredoom.levelingcore.interaction.SkillPointResetInteraction;
 import com.azuredoom.levelingcore.level.LevelServiceImpl;
 import com.azuredoom.levelingcore.level.itemlevellock.ItemToLevelMapping;
-import com.azuredoom.levelingcore.level.mobs.MobLevelPersistence;
-import com.azuredoom.levelingcore.level.mobs.MobLevelRegistry;
+import com.azuredoom.levelingcore.level.mobs.MobDistanceOrigin;
+import com.azuredoom.levelingcore.level.mobs.MobDistanceRings;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.level.mobs.MobLevelWorldContext;
+import com.azuredoom.levelingcore.level.mobs.MobScalingProfile;
 import com.azuredoom.levelingcore.level.mobs.mapping.MobBiomeMapping;
+import com.azuredoom.levelingcore.level.mobs.mapping.MobDistanceMapping;
+import com.azuredoom.levelingcore.level.mobs.mapping.MobDistanceOriginMapping;
 import com.azuredoom.levelingcore.level.mobs.mapping.MobInstanceMapping;
 import com.azuredoom.levelingcore.level.mobs.mapping.MobZoneMapping;
 import com.azuredoom.levelingcore.level.rewards.LevelRewards;
 import com.azuredoom.levelingcore.level.rewards.RewardEntry;
 import com.azuredoom.levelingcore.level.stats.StatsPerLevelMapping;
 import com.azuredoom.levelingcore.level.xp.XPValues;
+import com.azuredoom.levelingcore.level.xp.WorldXPMapping;
+import com.azuredoom.levelingcore.level.xp.XpAwardBuffer;
+import com.azuredoom.levelingcore.level.xp.XpModifierPipeline;
+import com.azuredoom.levelingcore.level.xp.XpRoleTable;
+import com.azuredoom.levelingcore.level.xp.XpSourceBatcher;
+import com.azuredoom.levelingcore.level.xp.XpSources;
+import com.azuredoom.levelingcore.playerdata.PlayerProgressComponent;
 import com.azuredoom.levelingcore.systems.*;
 import com.azuredoom.levelingcore.ui.hud.XPBarHud;
 import com.azuredoom.levelingcore.utils.HudPlayerReady;
@@ -76,9 +93,23 @@ public class LevelingCore extends JavaPlugin {
 
     public static final Map<String, Integer> mobBiomeMapping = MobBiomeMapping.loadOrCreate(LevelingCore.configPath);
 
-    public static final MobLevelRegistry mobLevelRegistry = new MobLevelRegistry();
+    public static final MobDistanceRings mobDistanceRings = MobDistanceMapping.loadOrCreate(LevelingCore.configPath);
 
-    public static final MobLevelPersistence mobLevelPersistence = new MobLevelPersistence();
+    public static final Map<String, MobDistanceOrigin> mobDistanceOrigins = MobDistanceOriginMapping.loadOrCreate(
+        LevelingCore.configPath
+    );
+
+    public static final MobScalingProfile mobScalingProfile = MobScalingProfile.loadOrCreate(LevelingCore.configPath);
+
+    public static final Map<String, Double> worldXpMapping = WorldXPMapping.loadOrCreate(LevelingCore.configPath);
+
+    public static ComponentType<EntityStore, MobLevelComponent> mobLevelComponentType;
+
+    public static ComponentType<EntityStore, PlayerProgressComponent> playerProgressComponentType;
+
+    public static ResourceType<EntityStore, MobLevelWorldContext> mobLevelWorldContextType;
+
+    public static ResourceType<EntityStore, XpAwardBuffer> xpAwardBufferType;
 
     public LevelingCore(@Nonnull JavaPluginInit init) {
         super(init);
@@ -92,7 +123,16 @@ public class LevelingCore extends JavaPlugin {
         this.config.save();
         LOGGER.at(Level.INFO).log("Leveling Core initializing");
         levelingService = bootstrap.service();
+        levelingService.getEventBus()
+            .configureBudget(
+                config.get().getListenerBudgetMicros() * 1000L,
+                config.get().getListenerBudgetStrikes(),
+                LevelingEventBus.QuarantineAction.parse(config.get().getListenerQuarantineAction())
+            );
+        XpModifierPipeline.compile(config);
+        XpSources.register(XpSources.BLOCK);
         this.registerAllCommands();
+        this.registerAllComponents();
         this.registerAllSystems();
         this.getCodecRegistry(Interaction.CODEC)
             .register("SkillPointResetInteraction", SkillPointResetInteraction.class, SkillPointResetInteraction.CODEC);
@@ -116,6 +156,14 @@ public class LevelingCore extends JavaPlugin {
 
                         LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> {
                             var uuid = player.getUuid();
+                            // Combat systems read level and stats from this component instead of the service
+                            var progress = store.getComponent(entityRef, PlayerProgressComponent.getComponentType());
+                            if (progress == null) {
+                                progress = new PlayerProgressComponent();
+                                store.addComponent(entityRef, PlayerProgressComponent.getComponentType(), progress);
+                            }
+                            levelService.attachProgress(uuid, progress);
+
                             var level = levelService.getLevel(uuid);
                             int expectedTotal;
                             if (config.get().isUseStatsPerLevelMapping()) {
@@ -138,21 +186,37 @@ public class LevelingCore extends JavaPlugin {
             );
         this.getEntityStoreRegistry().registerSystem(new PlayerDamageFilter(config));
         this.getEntityStoreRegistry().registerSystem(new MobDamageFilter(config));
+        this.getEntityStoreRegistry().registerSystem(new DamageContributionSystem(config));
         // Cleans up various weak hash maps and UI on player disconnect
         this.getEventRegistry()
             .registerGlobal(PlayerDisconnectEvent.class, (event) -> {
                 XPBarHud.removeHud(event.getPlayerRef());
                 LevelUpListenerRegistrar.clear(event.getPlayerRef().getUuid());
                 LevelDownListenerRegistrar.clear(event.getPlayerRef().getUuid());
+                LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> {
+                    levelService.detachProgress(event.getPlayerRef().getUuid());
+                    levelService.removePlayerHooks(event.getPlayerRef().getUuid());
+                });
             });
-        LevelingCore.mobLevelPersistence.load();
+    }
+
+    @Override
+    protected void start() {
+        // All plugins and assets are loaded by now, so optional integrations and asset indexes are resolved once
+        PartyProviders.resolve();
+        // Not re-resolved on NPC role asset reloads, see XpRoleTable
+        XpRoleTable.resolve(LevelingCore.xpMapping);
+        XpSourceBatcher.start(config.get().getXPSourceBatchIntervalMs());
     }
 
     @Override
     protected void shutdown() {
-        LevelingCore.mobLevelPersistence.save();
         super.shutdown();
         LOGGER.at(Level.INFO).log("Leveling Core shutting down");
+        // Credits XP still waiting for a batch before the database closes
+        XpSourceBatcher.stop();
+        // Delivers queued asynchronous and batched events while listeners can still use the service
+        LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> levelService.getEventBus().shutdown());
         try {
             LevelingCore.bootstrap.closeable().close();
         } catch (Exception e) {
@@ -177,10 +241,33 @@ public class LevelingCore extends JavaPlugin {
         getCommandRegistry().registerCommand(new ShowStatsCommand(config));
     }
 
+    public void registerAllComponents() {
+        // Mob levels are saved with their entity by the world's own storage
+        mobLevelComponentType = getEntityStoreRegistry().registerComponent(
+            MobLevelComponent.class,
+            "LevelingCore_MobLevel",
+            MobLevelComponent.CODEC
+        );
+        // Player progress mirrors the database and is never saved with the entity
+        playerProgressComponentType = getEntityStoreRegistry().registerComponent(
+            PlayerProgressComponent.class,
+            PlayerProgressComponent::new
+        );
+        // Each world's store gets its own mob leveling caches, created and dropped with the world
+        mobLevelWorldContextType = getEntityStoreRegistry().registerResource(
+            MobLevelWorldContext.class,
+            MobLevelWorldContext::new
+        );
+        // Kill XP of one tick is summed per player and applied once
+        xpAwardBufferType = getEntityStoreRegistry().registerResource(XpAwardBuffer.class, XpAwardBuffer::new);
+    }
+
     public void registerAllSystems() {
         getEntityStoreRegistry().registerSystem(new MobLevelSystem(config));
+        getEntityStoreRegistry().registerSystem(new MobLevelLifecycleSystem(config));
         // Ticking Systems removed as they are now handled by PlayerReadyEvent
         getEntityStoreRegistry().registerSystem(new GainXPEventSystem(config));
         getEntityStoreRegistry().registerSystem(new LossXPEventSystem(config));
+        getEntityStoreRegistry().registerSystem(new BlockBreakXPSystem(config));
     }
 }
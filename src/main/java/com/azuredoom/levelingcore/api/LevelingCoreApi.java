@@ -1,9 +1,21 @@
 package com.azuredoom.levelingcore.api;
 
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.events.ListenerStats;
 import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.mobs.LevelMode;
+import com.azuredoom.levelingcore.level.mobs.LevelModeRegistry;
+import com.azuredoom.levelingcore.level.xp.XpBoost;
+import com.azuredoom.levelingcore.level.xp.XpModifierPipeline;
+import com.azuredoom.levelingcore.level.xp.XpModifierStage;
+import com.azuredoom.levelingcore.level.xp.XpSource;
+import com.azuredoom.levelingcore.level.xp.XpSources;
 
 public final class LevelingCoreApi {
 
@@ -19,4 +31,76 @@ public final class LevelingCoreApi {
     public static Optional<LevelServiceImpl> getLevelServiceIfPresent() {
         return Optional.ofNullable(LevelingCore.getLevelService());
     }
+
+    /**
+     * Registers a custom {@link LevelMode} so it can be selected through the {@code LevelMode} config option. The
+     * mode's declared inputs decide how often the mob level scheduler recomputes it.
+     *
+     * @param mode the level mode to register.
+     */
+    public static void registerLevelMode(LevelMode mode) {
+        LevelModeRegistry.register(mode);
+    }
+
+    /**
+     * Registers a stage in the kill XP chain. Core stages run at the {@code ORDER_*} constants of
+     * {@link XpModifierPipeline}, so an order of {@code 320} runs after the world multiplier and before the anti-farm
+     * falloff.
+     *
+     * @param id    the unique id of the stage, registering the same id again replaces it.
+     * @param order where the stage runs in the chain.
+     * @param stage the stage.
+     */
+    public static void registerXpModifier(String id, int order, XpModifierStage stage) {
+        XpModifierPipeline.register(id, order, stage);
+    }
+
+    public static void unregisterXpModifier(String id) {
+        XpModifierPipeline.unregister(id);
+    }
+
+    /**
+     * Starts a server-wide XP boost, replacing any boost still running.
+     *
+     * @param multiplier the XP multiplier while the boost runs.
+     * @param durationMs how long the boost lasts, in milliseconds.
+     */
+    public static void startXpBoost(double multiplier, long durationMs) {
+        XpBoost.start(multiplier, durationMs);
+    }
+
+    /**
+     * Retrieves the delivery count, sampled timing, failures and quarantine state of every listener class subscribed
+     * to the leveling service's events.
+     *
+     * @return the figures per listener class, empty if the service is not available.
+     */
+    public static List<ListenerStats.Snapshot> getListenerStats() {
+        var levelService = LevelingCore.getLevelService();
+        return levelService == null ? List.of() : levelService.getEventBus().getListenerStats();
+    }
+
+    /**
+     * Registers an XP source besides mob kills, such as crafting or fishing, and creates its {@code <id>xpmapping.csv}
+     * if it does not exist yet. Registering an id again returns the existing source.
+     *
+     * @param id the id of the source, lowercase letters, digits or underscores.
+     * @return the registered source.
+     */
+    public static XpSource registerXpSource(String id) {
+        return XpSources.register(id);
+    }
+
+    /**
+     * Credits a player for one occurrence of an activity of a registered source. The XP is looked up in the source's
+     * mapping and applied with the next batch, so this is cheap enough to call on every event.
+     *
+     * @param sourceId   the id of the registered source.
+     * @param key        the key of the activity in the source's mapping.
+     * @param playerUuid the unique identifier of the player.
+     * @param world      the world the player is in.
+     */
+    public static void creditXpSource(String sourceId, String key, UUID playerUuid, World world) {
+        XpSources.credit(sourceId, key, playerUuid, world);
+    }
 }
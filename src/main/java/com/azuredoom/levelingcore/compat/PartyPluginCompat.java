@@ -2,14 +2,13 @@ package com.azuredoom.levelingcore.compat;
 
 import com.carsonk.partyplugin.party.PartyManager;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.util.Config;
 
-import java.util.Arrays;
 import java.util.UUID;
 
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
 import com.azuredoom.levelingcore.ui.hud.XPBarHud;
 import com.azuredoom.levelingcore.utils.NotificationsUtil;
 
@@ -22,18 +21,13 @@ public class PartyPluginCompat {
         UUID playerUuid,
         LevelServiceImpl levelService,
         Config<GUIConfig> config,
-        PlayerRef playerRef
+        PlayerRef playerRef,
+        PlayerSnapshot snapshot
     ) {
         var party = PartyManager.getInstance().getPartyDataById(playerUuid);
         if (party != null && config.get().isEnablePartyPluginXPShareCompat()) {
-            Arrays.stream(party.getMemberUuids().toArray(new UUID[0]))
-                .distinct()
-                .forEach(uuid -> {
-                    if (!config.get().isDisableXPGainNotification())
-                        NotificationsUtil.sendNotification(Universe.get().getPlayer(uuid), "Gained " + xp + " XP");
-                    levelService.addXp(uuid, xp);
-                    XPBarHud.updateHud(playerRef);
-                });
+            var members = party.getMemberUuids().toArray(new UUID[0]);
+            PartyXpShare.award(xp, playerUuid, members, levelService, config, snapshot);
         } else {
             if (!config.get().isDisableXPGainNotification())
                 NotificationsUtil.sendNotification(playerRef, "Gained " + xp + " XP");
@@ -41,4 +35,9 @@ public class PartyPluginCompat {
             XPBarHud.updateHud(playerRef);
         }
     }
+
+    public static int getPartySize(UUID playerUuid) {
+        var party = PartyManager.getInstance().getPartyDataById(playerUuid);
+        return party == null ? 1 : party.getMemberUuids().size();
+    }
 }
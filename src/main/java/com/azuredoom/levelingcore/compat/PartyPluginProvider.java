@@ -0,0 +1,43 @@
+package com.azuredoom.levelingcore.compat;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.UUID;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
+
+/**
+ * {@link PartyProvider} backed by the Party Plugin plugin through {@link PartyPluginCompat}.
+ */
+public final class PartyPluginProvider implements PartyProvider {
+
+    @Override
+    public String getId() {
+        return "partyplugin";
+    }
+
+    @Override
+    public void onXPGain(
+        long xp,
+        UUID playerUuid,
+        LevelServiceImpl levelService,
+        Config<GUIConfig> config,
+        PlayerRef playerRef,
+        PlayerSnapshot snapshot
+    ) {
+        PartyPluginCompat.onXPGain(xp, playerUuid, levelService, config, playerRef, snapshot);
+    }
+
+    @Override
+    public boolean sharesXp(Config<GUIConfig> config) {
+        return config.get().isEnablePartyPluginXPShareCompat();
+    }
+
+    @Override
+    public int getPartySize(UUID playerUuid) {
+        return PartyPluginCompat.getPartySize(playerUuid);
+    }
+}
@@ -1,15 +1,14 @@
 package com.azuredoom.levelingcore.compat;
 
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.util.Config;
 import me.tsumori.partypro.api.PartyProAPI;
 
-import java.util.Arrays;
 import java.util.UUID;
 
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
 import com.azuredoom.levelingcore.ui.hud.XPBarHud;
 import com.azuredoom.levelingcore.utils.NotificationsUtil;
 
@@ -22,18 +21,13 @@ public class PartyProCompat {
         UUID playerUuid,
         LevelServiceImpl levelService,
         Config<GUIConfig> config,
-        PlayerRef playerRef
+        PlayerRef playerRef,
+        PlayerSnapshot snapshot
     ) {
         var party = PartyProAPI.getInstance().getPartyByPlayer(playerUuid);
         if (party != null && config.get().isEnablePartyProXPShareCompat()) {
-            Arrays.stream(party.getAllMembers().toArray(new UUID[0]))
-                .distinct()
-                .forEach(uuid -> {
-                    if (!config.get().isDisableXPGainNotification())
-                        NotificationsUtil.sendNotification(Universe.get().getPlayer(uuid), "Gained " + xp + " XP");
-                    levelService.addXp(uuid, xp);
-                    XPBarHud.updateHud(playerRef);
-                });
+            var members = party.getAllMembers().toArray(new UUID[0]);
+            PartyXpShare.award(xp, playerUuid, members, levelService, config, snapshot);
         } else {
             if (!config.get().isDisableXPGainNotification())
                 NotificationsUtil.sendNotification(playerRef, "Gained " + xp + " XP");
@@ -42,6 +36,11 @@ public class PartyProCompat {
         }
     }
 
+    public static int getPartySize(UUID playerUuid) {
+        var party = PartyProAPI.getInstance().getPartyByPlayer(playerUuid);
+        return party == null ? 1 : party.getAllMembers().size();
+    }
+
     public static void showLvlOnHUD(UUID playerUuid, LevelServiceImpl levelService) {
         PartyProAPI.getInstance().setPlayerCustomText1(playerUuid, "Lvl " + levelService.getLevel(playerUuid));
     }
@@ -0,0 +1,48 @@
+package com.azuredoom.levelingcore.compat;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.UUID;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
+
+/**
+ * {@link PartyProvider} backed by the PartyPro plugin through {@link PartyProCompat}.
+ */
+public final class PartyProProvider implements PartyProvider {
+
+    @Override
+    public String getId() {
+        return "partypro";
+    }
+
+    @Override
+    public void onXPGain(
+        long xp,
+        UUID playerUuid,
+        LevelServiceImpl levelService,
+        Config<GUIConfig> config,
+        PlayerRef playerRef,
+        PlayerSnapshot snapshot
+    ) {
+        PartyProCompat.onXPGain(xp, playerUuid, levelService, config, playerRef, snapshot);
+    }
+
+    @Override
+    public void showLevelOnHud(UUID playerUuid, LevelServiceImpl levelService) {
+        PartyProCompat.showLvlOnHUD(playerUuid, levelService);
+    }
+
+    @Override
+    public boolean sharesXp(Config<GUIConfig> config) {
+        return config.get().isEnablePartyProXPShareCompat();
+    }
+
+    @Override
+    public int getPartySize(UUID playerUuid) {
+        return PartyProCompat.getPartySize(playerUuid);
+    }
+}
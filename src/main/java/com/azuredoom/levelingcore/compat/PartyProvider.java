@@ -0,0 +1,68 @@
+package com.azuredoom.levelingcore.compat;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.UUID;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
+
+/**
+ * Integration with a party plugin. The active provider is chosen once by {@link PartyProviders#resolve()}, so XP gain
+ * and HUD refreshes never probe the plugin manager themselves.
+ */
+public interface PartyProvider {
+
+    /**
+     * Retrieves the id used in logs to name this provider.
+     */
+    String getId();
+
+    /**
+     * Awards XP gained by a player, sharing it with the player's party when the integration is enabled.
+     *
+     * @param xp           The number of experience points gained.
+     * @param playerUuid   The unique identifier of the player gaining XP.
+     * @param levelService The service handling XP and level management.
+     * @param config       The configuration object containing settings related to XP sharing and notifications.
+     * @param playerRef    The player gaining XP.
+     * @param snapshot     The players of the world the XP was gained in, captured once for the whole tick.
+     */
+    void onXPGain(
+        long xp,
+        UUID playerUuid,
+        LevelServiceImpl levelService,
+        Config<GUIConfig> config,
+        PlayerRef playerRef,
+        PlayerSnapshot snapshot
+    );
+
+    /**
+     * Shows the player's level in the party plugin's own UI, if it has a place for it.
+     *
+     * @param playerUuid   The unique identifier of the player.
+     * @param levelService The service handling XP and level management.
+     */
+    default void showLevelOnHud(UUID playerUuid, LevelServiceImpl levelService) {}
+
+    /**
+     * Checks whether {@link #onXPGain} shares XP with the party under the given config. XP is only split by party size
+     * when it is, otherwise the player would receive a fraction and the other members nothing.
+     *
+     * @param config The configuration object holding the XP share compat toggles.
+     */
+    default boolean sharesXp(Config<GUIConfig> config) {
+        return false;
+    }
+
+    /**
+     * Retrieves the number of members of the player's party, {@code 1} when the player is not in one.
+     *
+     * @param playerUuid The unique identifier of the player.
+     */
+    default int getPartySize(UUID playerUuid) {
+        return 1;
+    }
+}
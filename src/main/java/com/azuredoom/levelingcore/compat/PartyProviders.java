@@ -0,0 +1,56 @@
+package com.azuredoom.levelingcore.compat;
+
+import com.hypixel.hytale.common.plugin.PluginIdentifier;
+import com.hypixel.hytale.server.core.plugin.PluginManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+
+/**
+ * Holds the active {@link PartyProvider}. The first installed party plugin in priority order (SimpleParty, PartyPro,
+ * Party Plugin) wins, and without any the {@link SoloPartyProvider} is used. Resolution happens once all plugins are
+ * loaded, so the XP and HUD paths only read the cached provider.
+ */
+public final class PartyProviders {
+
+    private static final List<Candidate> CANDIDATES = List.of(
+        new Candidate(new PluginIdentifier("net.justmadlime", "SimpleParty"), SimplePartyProvider::new),
+        new Candidate(new PluginIdentifier("tsumori", "partypro"), PartyProProvider::new),
+        new Candidate(new PluginIdentifier("com.carsonk", "Party Plugin"), PartyPluginProvider::new)
+    );
+
+    private static volatile PartyProvider active = SoloPartyProvider.INSTANCE;
+
+    private PartyProviders() {}
+
+    /**
+     * Retrieves the active party provider, never {@code null}.
+     */
+    public static PartyProvider get() {
+        return active;
+    }
+
+    /**
+     * Probes the plugin manager for the supported party plugins and caches the provider of the first one installed.
+     * Called once all plugins are loaded; call it again if the set of loaded plugins changes.
+     */
+    public static void resolve() {
+        PartyProvider resolved = SoloPartyProvider.INSTANCE;
+        for (var candidate : CANDIDATES) {
+            if (PluginManager.get().getPlugin(candidate.plugin()) != null) {
+                resolved = candidate.factory().get();
+                break;
+            }
+        }
+        active = resolved;
+        LevelingCore.LOGGER.at(Level.INFO).log("Using party provider: " + resolved.getId());
+    }
+
+    private record Candidate(
+        PluginIdentifier plugin,
+        Supplier<PartyProvider> factory
+    ) {}
+}
@@ -0,0 +1,101 @@
+package com.azuredoom.levelingcore.compat;
+
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.UUID;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
+import com.azuredoom.levelingcore.ui.hud.XPBarHud;
+import com.azuredoom.levelingcore.utils.NotificationsUtil;
+
+/**
+ * Distributes shared XP to the members of a party through {@link LevelServiceImpl#addXpToMany}, so the whole party is
+ * saved in one database batch and each member's own HUD is refreshed exactly once.
+ * <ul>
+ * <li>With a {@code PartyXPShareRadius} above {@code 0}, only members of the same world within that many blocks of the
+ * player gaining the XP share it.</li>
+ * <li>{@code PartyXPShareMode} decides how the XP is divided between the sharing members, see
+ * {@link PartyXpShareMode}.</li>
+ * </ul>
+ * Positions, levels and player references come from the tick's {@link PlayerSnapshot}, so no member is looked up per
+ * award.
+ */
+public final class PartyXpShare {
+
+    private PartyXpShare() {}
+
+    /**
+     * Shares XP gained by a player with the members of the player's party.
+     *
+     * @param xp           The number of experience points gained.
+     * @param playerUuid   The unique identifier of the player gaining the XP, always part of the share.
+     * @param members      The unique identifiers of the party members, duplicates are awarded once.
+     * @param levelService The service handling XP and level management.
+     * @param config       The configuration object containing the share and notification settings.
+     * @param snapshot     The players of the world the XP was gained in.
+     */
+    public static void award(
+        long xp,
+        UUID playerUuid,
+        UUID[] members,
+        LevelServiceImpl levelService,
+        Config<GUIConfig> config,
+        PlayerSnapshot snapshot
+    ) {
+        var settings = config.get();
+        var radius = settings.getPartyXPShareRadius();
+        var radiusSq = (double) radius * radius;
+
+        var sharing = new LinkedHashSet<UUID>(members.length * 2);
+        sharing.add(playerUuid);
+        for (var uuid : members) {
+            if (radius <= 0 || snapshot.isWithin(playerUuid, uuid, radiusSq)) {
+                sharing.add(uuid);
+            }
+        }
+
+        var awards = new LinkedHashMap<UUID, Long>(sharing.size() * 2);
+        switch (PartyXpShareMode.parse(settings.getPartyXPShareMode())) {
+            case FULL -> sharing.forEach(uuid -> awards.put(uuid, xp));
+            case EVEN -> {
+                var each = Math.max(1L, Math.round(xp / (double) sharing.size()));
+                sharing.forEach(uuid -> awards.put(uuid, each));
+            }
+            case LEVEL_WEIGHTED -> {
+                var levels = new LinkedHashMap<UUID, Integer>(sharing.size() * 2);
+                var totalLevels = 0L;
+                for (var uuid : sharing) {
+                    var level = snapshot.getLevel(uuid);
+                    // Members in other worlds or not ready yet are not in the snapshot
+                    if (level <= 0)
+                        level = Math.max(1, levelService.getLevel(uuid));
+                    levels.put(uuid, level);
+                    totalLevels += level;
+                }
+                for (var entry : levels.entrySet()) {
+                    var share = entry.getValue() / (double) totalLevels;
+                    awards.put(entry.getKey(), Math.max(1L, Math.round(xp * share)));
+                }
+            }
+        }
+
+        var affected = levelService.addXpToMany(awards);
+
+        var notify = !settings.isDisableXPGainNotification();
+        for (var uuid : affected) {
+            var memberRef = snapshot.getPlayerRef(uuid);
+            if (memberRef == null)
+                memberRef = Universe.get().getPlayer(uuid);
+            if (memberRef == null)
+                continue;
+            if (notify)
+                NotificationsUtil.sendNotification(memberRef, "Gained " + awards.get(uuid) + " XP");
+            XPBarHud.updateHud(memberRef);
+        }
+    }
+}
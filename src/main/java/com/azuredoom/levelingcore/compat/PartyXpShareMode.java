@@ -0,0 +1,35 @@
+package com.azuredoom.levelingcore.compat;
+
+import java.util.Locale;
+
+/**
+ * How shared party XP is divided between the members in range, selected by the {@code PartyXPShareMode} config
+ * option.
+ */
+public enum PartyXpShareMode {
+    /**
+     * Every member gets the full amount.
+     */
+    FULL,
+    /**
+     * The amount is divided evenly between the members.
+     */
+    EVEN,
+    /**
+     * The amount is divided in proportion to the members' levels.
+     */
+    LEVEL_WEIGHTED;
+
+    /**
+     * Parses a config value, falling back to {@link #FULL} for unknown values.
+     */
+    public static PartyXpShareMode parse(String value) {
+        if (value == null)
+            return FULL;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return FULL;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.azuredoom.levelingcore.compat;
 
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.util.Config;
 import net.justmadlime.SimpleParty.party.PartyManager;
 
@@ -10,6 +9,7 @@ import java.util.UUID;
 
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
 import com.azuredoom.levelingcore.ui.hud.XPBarHud;
 import com.azuredoom.levelingcore.utils.NotificationsUtil;
 
@@ -26,24 +26,20 @@ public class SimplePartyCompat {
      * @param playerUuid   The unique identifier of the player gaining XP.
      * @param levelService The service handling XP and level management.
      * @param config       The configuration object containing settings related to XP sharing and notifications.
+     * @param playerRef    The player gaining XP.
+     * @param snapshot     The players of the world the XP was gained in.
      */
     public static void onXPGain(
         long xp,
         UUID playerUuid,
         LevelServiceImpl levelService,
         Config<GUIConfig> config,
-        PlayerRef playerRef
+        PlayerRef playerRef,
+        PlayerSnapshot snapshot
     ) {
         var party = PartyManager.getInstance().getPartyFromPlayer(playerUuid);
         if (party != null && config.get().isEnableSimplePartyXPShareCompat()) {
-            Arrays.stream(party.getAllPartyMembers())
-                .distinct()
-                .forEach(uuid -> {
-                    if (!config.get().isDisableXPGainNotification())
-                        NotificationsUtil.sendNotification(Universe.get().getPlayer(uuid), "Gained " + xp + " XP");
-                    levelService.addXp(uuid, xp);
-                    XPBarHud.updateHud(playerRef);
-                });
+            PartyXpShare.award(xp, playerUuid, party.getAllPartyMembers(), levelService, config, snapshot);
         } else {
             if (!config.get().isDisableXPGainNotification())
                 NotificationsUtil.sendNotification(playerRef, "Gained " + xp + " XP");
@@ -51,4 +47,9 @@ public class SimplePartyCompat {
             XPBarHud.updateHud(playerRef);
         }
     }
+
+    public static int getPartySize(UUID playerUuid) {
+        var party = PartyManager.getInstance().getPartyFromPlayer(playerUuid);
+        return party == null ? 1 : (int) Arrays.stream(party.getAllPartyMembers()).distinct().count();
+    }
 }
@@ -0,0 +1,42 @@
+package com.azuredoom.levelingcore.compat;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.UUID;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.LevelServiceImpl;
+import com.azuredoom.levelingcore.level.xp.PlayerSnapshot;
+import com.azuredoom.levelingcore.ui.hud.XPBarHud;
+import com.azuredoom.levelingcore.utils.NotificationsUtil;
+
+/**
+ * Provider used when no party plugin is installed, XP always goes to the player alone.
+ */
+public final class SoloPartyProvider implements PartyProvider {
+
+    public static final SoloPartyProvider INSTANCE = new SoloPartyProvider();
+
+    private SoloPartyProvider() {}
+
+    @Override
+    public String getId() {
+        return "none";
+    }
+
+    @Override
+    public void onXPGain(
+        long xp,
+        UUID playerUuid,
+        LevelServiceImpl levelService,
+        Config<GUIConfig> config,
+        PlayerRef playerRef,
+        PlayerSnapshot snapshot
+    ) {
+        if (!config.get().isDisableXPGainNotification())
+            NotificationsUtil.sendNotification(playerRef, "Gained " + xp + " XP");
+        levelService.addXp(playerUuid, xp);
+        XPBarHud.updateHud(playerRef);
+    }
+}
@@ -241,6 +241,132 @@ public class GUIConfig {
             (exConfig, extraInfo) -> exConfig.enableItemLevelRestriction
         )
         .add()
+        .append(
+            new KeyedCodec<Boolean>("EnableMobPackLevels", Codec.BOOLEAN),
+            (exConfig, aBoolean, extraInfo) -> exConfig.enableMobPackLevels = aBoolean,
+            (exConfig, extraInfo) -> exConfig.enableMobPackLevels
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("MobPackLevelVariance", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.mobPackLevelVariance = aInteger,
+            (exConfig, extraInfo) -> exConfig.mobPackLevelVariance
+        )
+        .add()
+        .append(
+            new KeyedCodec<Boolean>("ShowMobLevelNameplates", Codec.BOOLEAN),
+            (exConfig, aBoolean, extraInfo) -> exConfig.showMobLevelNameplates = aBoolean,
+            (exConfig, extraInfo) -> exConfig.showMobLevelNameplates
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("MobNameplateViewDistance", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.mobNameplateViewDistance = aInteger,
+            (exConfig, extraInfo) -> exConfig.mobNameplateViewDistance
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("XPLevelWindow", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.xpLevelWindow = aInteger,
+            (exConfig, extraInfo) -> exConfig.xpLevelWindow
+        )
+        .add()
+        .append(
+            new KeyedCodec<Double>("XPLevelBonusMultiplier", Codec.DOUBLE),
+            (exConfig, aDouble, extraInfo) -> exConfig.xpLevelBonusMultiplier = aDouble,
+            (exConfig, extraInfo) -> exConfig.xpLevelBonusMultiplier
+        )
+        .add()
+        .append(
+            new KeyedCodec<Boolean>("EnablePartyXPSplit", Codec.BOOLEAN),
+            (exConfig, aBoolean, extraInfo) -> exConfig.enablePartyXPSplit = aBoolean,
+            (exConfig, extraInfo) -> exConfig.enablePartyXPSplit
+        )
+        .add()
+        .append(
+            new KeyedCodec<Boolean>("EnableDamageContributionXP", Codec.BOOLEAN),
+            (exConfig, aBoolean, extraInfo) -> exConfig.enableDamageContributionXP = aBoolean,
+            (exConfig, extraInfo) -> exConfig.enableDamageContributionXP
+        )
+        .add()
+        .append(
+            new KeyedCodec<Boolean>("EnableAntiFarmXP", Codec.BOOLEAN),
+            (exConfig, aBoolean, extraInfo) -> exConfig.enableAntiFarmXP = aBoolean,
+            (exConfig, extraInfo) -> exConfig.enableAntiFarmXP
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("AntiFarmFreeKills", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.antiFarmFreeKills = aInteger,
+            (exConfig, extraInfo) -> exConfig.antiFarmFreeKills
+        )
+        .add()
+        .append(
+            new KeyedCodec<Double>("AntiFarmFalloff", Codec.DOUBLE),
+            (exConfig, aDouble, extraInfo) -> exConfig.antiFarmFalloff = aDouble,
+            (exConfig, extraInfo) -> exConfig.antiFarmFalloff
+        )
+        .add()
+        .append(
+            new KeyedCodec<Double>("AntiFarmMinMultiplier", Codec.DOUBLE),
+            (exConfig, aDouble, extraInfo) -> exConfig.antiFarmMinMultiplier = aDouble,
+            (exConfig, extraInfo) -> exConfig.antiFarmMinMultiplier
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("AntiFarmHalfLifeSeconds", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.antiFarmHalfLifeSeconds = aInteger,
+            (exConfig, extraInfo) -> exConfig.antiFarmHalfLifeSeconds
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("AntiFarmAreaSize", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.antiFarmAreaSize = aInteger,
+            (exConfig, extraInfo) -> exConfig.antiFarmAreaSize
+        )
+        .add()
+        .append(
+            new KeyedCodec<Boolean>("EnableBlockBreakXP", Codec.BOOLEAN),
+            (exConfig, aBoolean, extraInfo) -> exConfig.enableBlockBreakXP = aBoolean,
+            (exConfig, extraInfo) -> exConfig.enableBlockBreakXP
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("XPSourceBatchIntervalMs", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.xpSourceBatchIntervalMs = aInteger,
+            (exConfig, extraInfo) -> exConfig.xpSourceBatchIntervalMs
+        )
+        .add()
+        .append(
+            new KeyedCodec<String>("PartyXPShareMode", Codec.STRING),
+            (exConfig, aString, extraInfo) -> exConfig.partyXPShareMode = aString,
+            (exConfig, extraInfo) -> exConfig.partyXPShareMode
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("PartyXPShareRadius", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.partyXPShareRadius = aInteger,
+            (exConfig, extraInfo) -> exConfig.partyXPShareRadius
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("ListenerBudgetMicros", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.listenerBudgetMicros = aInteger,
+            (exConfig, extraInfo) -> exConfig.listenerBudgetMicros
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("ListenerBudgetStrikes", Codec.INTEGER),
+            (exConfig, aInteger, extraInfo) -> exConfig.listenerBudgetStrikes = aInteger,
+            (exConfig, extraInfo) -> exConfig.listenerBudgetStrikes
+        )
+        .add()
+        .append(
+            new KeyedCodec<String>("ListenerQuarantineAction", Codec.STRING),
+            (exConfig, aString, extraInfo) -> exConfig.listenerQuarantineAction = aString,
+            (exConfig, extraInfo) -> exConfig.listenerQuarantineAction
+        )
+        .add()
         .build();
 
     private boolean enableXPLossOnDeath = false;
@@ -319,6 +445,48 @@ public class GUIConfig {
 
     private boolean enableItemLevelRestriction = false;
 
+    private boolean enableMobPackLevels = false;
+
+    private int mobPackLevelVariance = 1;
+
+    private boolean showMobLevelNameplates = false;
+
+    private int mobNameplateViewDistance = 48;
+
+    private int xpLevelWindow = 5;
+
+    private double xpLevelBonusMultiplier = 1.25;
+
+    private boolean enablePartyXPSplit = false;
+
+    private boolean enableDamageContributionXP = false;
+
+    private boolean enableAntiFarmXP = false;
+
+    private int antiFarmFreeKills = 20;
+
+    private double antiFarmFalloff = 0.05;
+
+    private double antiFarmMinMultiplier = 0.1;
+
+    private int antiFarmHalfLifeSeconds = 600;
+
+    private int antiFarmAreaSize = 64;
+
+    private boolean enableBlockBreakXP = true;
+
+    private int xpSourceBatchIntervalMs = 1000;
+
+    private String partyXPShareMode = "FULL";
+
+    private int partyXPShareRadius = 0;
+
+    private int listenerBudgetMicros = 5000;
+
+    private int listenerBudgetStrikes = 5;
+
+    private String listenerQuarantineAction = "ASYNC";
+
     public GUIConfig() {}
 
     /**
@@ -557,4 +725,88 @@ public class GUIConfig {
     public boolean isEnableItemLevelRestriction() {
         return enableItemLevelRestriction;
     }
+
+    public boolean isEnableMobPackLevels() {
+        return enableMobPackLevels;
+    }
+
+    public int getMobPackLevelVariance() {
+        return mobPackLevelVariance;
+    }
+
+    public boolean isShowMobLevelNameplates() {
+        return showMobLevelNameplates;
+    }
+
+    public int getMobNameplateViewDistance() {
+        return mobNameplateViewDistance;
+    }
+
+    public int getXPLevelWindow() {
+        return xpLevelWindow;
+    }
+
+    public double getXPLevelBonusMultiplier() {
+        return xpLevelBonusMultiplier;
+    }
+
+    public boolean isEnablePartyXPSplit() {
+        return enablePartyXPSplit;
+    }
+
+    public boolean isEnableDamageContributionXP() {
+        return enableDamageContributionXP;
+    }
+
+    public boolean isEnableAntiFarmXP() {
+        return enableAntiFarmXP;
+    }
+
+    public int getAntiFarmFreeKills() {
+        return antiFarmFreeKills;
+    }
+
+    public double getAntiFarmFalloff() {
+        return antiFarmFalloff;
+    }
+
+    public double getAntiFarmMinMultiplier() {
+        return antiFarmMinMultiplier;
+    }
+
+    public int getAntiFarmHalfLifeSeconds() {
+        return antiFarmHalfLifeSeconds;
+    }
+
+    public int getAntiFarmAreaSize() {
+        return antiFarmAreaSize;
+    }
+
+    public boolean isEnableBlockBreakXP() {
+        return enableBlockBreakXP;
+    }
+
+    public int getXPSourceBatchIntervalMs() {
+        return xpSourceBatchIntervalMs;
+    }
+
+    public String getPartyXPShareMode() {
+        return partyXPShareMode;
+    }
+
+    public int getPartyXPShareRadius() {
+        return partyXPShareRadius;
+    }
+
+    public int getListenerBudgetMicros() {
+        return listenerBudgetMicros;
+    }
+
+    public int getListenerBudgetStrikes() {
+        return listenerBudgetStrikes;
+    }
+
+    public String getListenerQuarantineAction() {
+        return listenerQuarantineAction;
+    }
 }
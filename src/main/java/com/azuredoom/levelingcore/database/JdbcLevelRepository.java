@@ -4,7 +4,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import javax.sql.DataSource;
 
@@ -14,6 +20,7 @@ import com.azuredoom.levelingcore.config.internal.LevelFormulaFactory;
 import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
 import com.azuredoom.levelingcore.level.formulas.LevelFormula;
 import com.azuredoom.levelingcore.playerdata.PlayerLevelData;
+import com.azuredoom.levelingcore.playerdata.PlayerStat;
 
 /**
  * A repository implementation for managing player leveling data and metadata in a database using JDBC. This class
@@ -23,8 +30,17 @@ import com.azuredoom.levelingcore.playerdata.PlayerLevelData;
  */
 public class JdbcLevelRepository {
 
+    private static final String INSERT_SQL = buildInsertSql();
+
+    private static final String SELECT_SQL = buildSelectSql();
+
     private final DataSource dataSource;
 
+    /**
+     * "UPDATE" statements keyed by the dirty mask they write, built the first time a mask is saved.
+     */
+    private final Map<Long, String> updateSqlCache = new ConcurrentHashMap<>();
+
     public JdbcLevelRepository(DataSource dataSource) {
         this.dataSource = dataSource;
         createTableIfNotExists();
@@ -62,12 +78,11 @@ public class JdbcLevelRepository {
         ) {
             stmt.execute(sql);
 
-            stmt.execute("ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS str INT DEFAULT 0 NOT NULL");
-            stmt.execute("ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS agi INT DEFAULT 0 NOT NULL");
-            stmt.execute("ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS per INT DEFAULT 0 NOT NULL");
-            stmt.execute("ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS vit INT DEFAULT 0 NOT NULL");
-            stmt.execute("ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS intelligence INT DEFAULT 0 NOT NULL");
-            stmt.execute("ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS con INT DEFAULT 0 NOT NULL");
+            for (var stat : PlayerStat.VALUES) {
+                stmt.execute(
+                    "ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS " + stat.getColumn() + " INT DEFAULT 0 NOT NULL"
+                );
+            }
             stmt.execute("ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS ability_points INT DEFAULT 5 NOT NULL");
             stmt.execute(
                 "ALTER TABLE player_levels ADD COLUMN IF NOT EXISTS used_ability_points INT DEFAULT 0 NOT NULL"
@@ -300,75 +315,131 @@ public class JdbcLevelRepository {
     }
 
     /**
-     * Saves the level-related data for a player. This method updates the player's experience points (XP) in the
-     * database if an entry for the player already exists. If no entry exists, a new row is created.
+     * Saves the level-related data for a player. Only the fields marked dirty in the {@link PlayerLevelData} are
+     * written: an "UPDATE" statement setting just those columns is built once per dirty mask and cached. If the update
+     * affected no row, the player has no entry yet and the full row is inserted instead.
      * <p>
-     * The method uses two SQL statements: 1. An "UPDATE" statement to modify the player's existing XP value if the
-     * player ID is found. 2. An "INSERT" statement to create a new entry with the player ID and XP if the update
-     * operation did not affect any rows.
-     * <p>
-     * This method ensures that player XP data is consistently stored in the database and handles scenarios where a
-     * player record needs to be either updated or inserted.
+     * The dirty mask is cleared after a successful write, so a save of data that did not change since the last save
+     * does not touch the database at all.
      *
-     * @param data The {@link PlayerLevelData} instance containing the player's unique identifier and XP value. The
-     *             unique identifier is used to check for existing database entries, and the XP value is saved or
-     *             updated accordingly.
+     * @param data The {@link PlayerLevelData} instance containing the player's unique identifier and the values to
+     *             save.
      * @throws LevelingCoreException if any database operation fails, such as connection issues or invalid SQL.
      */
     public void save(PlayerLevelData data) {
-        var updateSql =
-            """
-                    UPDATE player_levels
-                    SET xp = ?, str = ?, agi = ?, per = ?, vit = ?, intelligence = ?, con = ?, ability_points = ?, used_ability_points = ?
-                    WHERE player_id = ?
-                """;
-        var insertSql = """
-                INSERT INTO player_levels
-                (player_id, xp, str, agi, per, vit, intelligence, con, ability_points, used_ability_points)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-            """;
+        var mask = data.getDirtyMask();
+        if (mask == 0) {
+            return;
+        }
 
         try (Connection connection = dataSource.getConnection()) {
             int updated;
-            try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-                ps.setLong(1, data.getXp());
-                ps.setInt(2, data.getStr());
-                ps.setInt(3, data.getAgi());
-                ps.setInt(4, data.getPer());
-                ps.setInt(5, data.getVit());
-                ps.setInt(6, data.getIntelligence());
-                ps.setInt(7, data.getCon());
-                ps.setInt(8, data.getAbilityPoints());
-                ps.setInt(9, data.getUsedAbilityPoints());
-                ps.setString(10, data.getPlayerId().toString());
+            try (PreparedStatement ps = connection.prepareStatement(updateSql(mask))) {
+                var index = bindFields(ps, 1, data, mask);
+                ps.setString(index, data.getPlayerId().toString());
                 updated = ps.executeUpdate();
             }
 
             if (updated == 0) {
-                try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
+                try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
                     ps.setString(1, data.getPlayerId().toString());
-                    ps.setLong(2, data.getXp());
-                    ps.setInt(3, data.getStr());
-                    ps.setInt(4, data.getAgi());
-                    ps.setInt(5, data.getPer());
-                    ps.setInt(6, data.getVit());
-                    ps.setInt(7, data.getIntelligence());
-                    ps.setInt(8, data.getCon());
-                    ps.setInt(9, data.getAbilityPoints());
-                    ps.setInt(10, data.getUsedAbilityPoints());
+                    bindFields(ps, 2, data, -1L);
                     ps.executeUpdate();
                 }
             }
+            data.clearDirty(mask);
         } catch (Exception e) {
             throw new LevelingCoreException("Failed to save player level data", e);
         }
     }
 
+    /**
+     * Saves the level-related data of several players in one transaction. Players are grouped by dirty mask and each
+     * group is updated in a single JDBC batch of the cached statement for that mask; players whose update affected no
+     * row are then inserted in a final batch. This is the bulk counterpart of {@link #save(PlayerLevelData)}, used when
+     * one event awards XP to a whole party.
+     *
+     * @param batch The {@link PlayerLevelData} instances to save.
+     * @throws LevelingCoreException if any database operation fails, such as connection issues or invalid SQL.
+     */
+    public void saveAll(Collection<PlayerLevelData> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batch.size() == 1) {
+            save(batch.iterator().next());
+            return;
+        }
+
+        var groups = new HashMap<Long, List<PlayerLevelData>>();
+        for (var data : batch) {
+            var mask = data.getDirtyMask();
+            if (mask != 0) {
+                groups.computeIfAbsent(mask, k -> new ArrayList<>()).add(data);
+            }
+        }
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            var autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                var missing = new ArrayList<PlayerLevelData>();
+                for (var group : groups.entrySet()) {
+                    var mask = group.getKey();
+                    var rows = group.getValue();
+                    int[] updated;
+                    try (PreparedStatement ps = connection.prepareStatement(updateSql(mask))) {
+                        for (var data : rows) {
+                            var index = bindFields(ps, 1, data, mask);
+                            ps.setString(index, data.getPlayerId().toString());
+                            ps.addBatch();
+                        }
+                        updated = ps.executeBatch();
+                    }
+                    for (var i = 0; i < updated.length; i++) {
+                        // SUCCESS_NO_INFO means the driver did not report a count, the row is assumed to exist
+                        if (updated[i] == 0)
+                            missing.add(rows.get(i));
+                    }
+                }
+
+                if (!missing.isEmpty()) {
+                    try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                        for (var data : missing) {
+                            ps.setString(1, data.getPlayerId().toString());
+                            bindFields(ps, 2, data, -1L);
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                    }
+                }
+
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (Exception e) {
+            throw new LevelingCoreException("Failed to save player level data batch", e);
+        }
+
+        for (var group : groups.entrySet()) {
+            for (var data : group.getValue()) {
+                data.clearDirty(group.getKey());
+            }
+        }
+    }
+
     /**
      * Loads the level-related data for a player identified by their unique UUID. This method retrieves the player's
-     * experience points (XP) from the database and creates a {@link PlayerLevelData} instance with the retrieved
-     * values. If no data exists for the given UUID, the method returns null. If any database-related issue occurs, it
-     * wraps and rethrows the exception as a {@link LevelingCoreException}.
+     * experience points (XP), ability points and stats from the database and creates a {@link PlayerLevelData}
+     * instance with the retrieved values. If no data exists for the given UUID, the method returns null. If any
+     * database-related issue occurs, it wraps and rethrows the exception as a {@link LevelingCoreException}.
      *
      * @param id The unique identifier of the player as a {@link UUID}.
      * @return A {@link PlayerLevelData} instance containing the player's XP and unique identifier, or null if no data
@@ -376,15 +447,9 @@ public class JdbcLevelRepository {
      * @throws LevelingCoreException if any database operation fails, such as connection issues or invalid SQL.
      */
     public PlayerLevelData load(UUID id) {
-        var sql = """
-                SELECT xp, str, agi, per, vit, intelligence, con, ability_points, used_ability_points
-                FROM player_levels
-                WHERE player_id = ?
-            """;
-
         try (
             Connection connection = dataSource.getConnection();
-            PreparedStatement ps = connection.prepareStatement(sql)
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL)
         ) {
 
             ps.setString(1, id.toString());
@@ -392,15 +457,10 @@ public class JdbcLevelRepository {
             var rs = ps.executeQuery();
             if (rs.next()) {
                 var data = new PlayerLevelData(id);
-                data.setXp(rs.getLong("xp"));
-                data.setStr(rs.getInt("str"));
-                data.setAgi(rs.getInt("agi"));
-                data.setPer(rs.getInt("per"));
-                data.setVit(rs.getInt("vit"));
-                data.setIntelligence(rs.getInt("intelligence"));
-                data.setCon(rs.getInt("con"));
-                data.setAbilityPoints(rs.getInt("ability_points"));
-                data.setUsedAbilityPoints(rs.getInt("used_ability_points"));
+                for (var field = 0; field < PlayerLevelData.FIELD_COUNT; field++) {
+                    data.setField(field, rs.getLong(field + 1));
+                }
+                data.clearDirty(data.getDirtyMask());
                 return data;
             }
             return null;
@@ -409,6 +469,66 @@ public class JdbcLevelRepository {
         }
     }
 
+    /**
+     * Binds the fields selected by the mask to consecutive parameters, in field order.
+     *
+     * @return The index of the next unbound parameter.
+     */
+    private static int bindFields(PreparedStatement ps, int index, PlayerLevelData data, long mask) throws Exception {
+        for (var field = 0; field < PlayerLevelData.FIELD_COUNT; field++) {
+            if ((mask & (1L << field)) == 0)
+                continue;
+            if (field == PlayerLevelData.XP) {
+                ps.setLong(index++, data.getXp());
+            } else {
+                ps.setInt(index++, (int) data.getField(field));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Retrieves the cached "UPDATE" statement writing exactly the columns of the given dirty mask. There are at most
+     * {@code 2^FIELD_COUNT} masks and in practice only a handful occur, so the cache is never evicted.
+     */
+    private String updateSql(long mask) {
+        return updateSqlCache.computeIfAbsent(mask, JdbcLevelRepository::buildUpdateSql);
+    }
+
+    private static String buildUpdateSql(long mask) {
+        var sql = new StringBuilder("UPDATE player_levels SET ");
+        var first = true;
+        for (var field = 0; field < PlayerLevelData.FIELD_COUNT; field++) {
+            if ((mask & (1L << field)) == 0)
+                continue;
+            if (!first)
+                sql.append(", ");
+            first = false;
+            sql.append(PlayerLevelData.columnOf(field)).append(" = ?");
+        }
+        return sql.append(" WHERE player_id = ?").toString();
+    }
+
+    private static String buildInsertSql() {
+        var columns = new StringBuilder("player_id");
+        var values = new StringBuilder("?");
+        for (var field = 0; field < PlayerLevelData.FIELD_COUNT; field++) {
+            columns.append(", ").append(PlayerLevelData.columnOf(field));
+            values.append(", ?");
+        }
+        return "INSERT INTO player_levels (" + columns + ") VALUES (" + values + ")";
+    }
+
+    private static String buildSelectSql() {
+        var sql = new StringBuilder("SELECT ");
+        for (var field = 0; field < PlayerLevelData.FIELD_COUNT; field++) {
+            if (field > 0)
+                sql.append(", ");
+            sql.append(PlayerLevelData.columnOf(field));
+        }
+        return sql.append(" FROM player_levels WHERE player_id = ?").toString();
+    }
+
     /**
      * Checks if a record exists in the "player_levels" database table for the given player UUID. This method executes a
      * SQL query using the provided UUID to determine if an entry exists.
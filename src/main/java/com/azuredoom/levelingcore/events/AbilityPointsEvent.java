@@ -0,0 +1,28 @@
+package com.azuredoom.levelingcore.events;
+
+import java.util.UUID;
+
+/**
+ * Posted when a player's ability points change.
+ */
+public record AbilityPointsEvent(
+    UUID playerId,
+    Kind kind,
+    int amount
+) {
+
+    public enum Kind {
+        /**
+         * Ability points were granted, {@code amount} is the points added or the new total.
+         */
+        GAIN,
+        /**
+         * The used ability points were set, {@code amount} is the new used total.
+         */
+        LOSS,
+        /**
+         * Ability points were spent, {@code amount} is the points spent.
+         */
+        USED
+    }
+}
@@ -0,0 +1,12 @@
+package com.azuredoom.levelingcore.events;
+
+import java.util.UUID;
+
+/**
+ * Posted when a player's level increases, once per change even if several levels were crossed.
+ */
+public record LevelUpEvent(
+    UUID playerId,
+    int oldLevel,
+    int newLevel
+) {}
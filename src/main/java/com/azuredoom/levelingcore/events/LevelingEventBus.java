@@ -0,0 +1,475 @@
+package com.azuredoom.levelingcore.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+
+/**
+ * Typed event bus of the leveling service. Subscribers are kept per event type in an array sorted by priority, highest
+ * first, and every subscribe or unsubscribe swaps in a new array, so posting never locks and a subscriber added from
+ * another thread is never seen half way.
+ * <p>
+ * Each subscriber picks how it receives events, see {@link Delivery}. Asynchronous subscribers run on one shared
+ * thread fed by a bounded queue; when the queue is full the posting thread runs the listener itself, which slows the
+ * producer down instead of dropping events or growing without bound. An exception thrown by a listener is logged and
+ * never reaches the poster or the other subscribers.
+ * <p>
+ * Deliveries are counted per listener class and sampled for timing, see {@link #getListenerStats()}. With a budget
+ * configured, a listener whose sampled deliveries go over it several times in a row is quarantined: moved to
+ * asynchronous delivery or disabled, with a warning in the log.
+ */
+public final class LevelingEventBus {
+
+    /**
+     * How a subscriber receives events.
+     */
+    public enum Delivery {
+        /**
+         * On the posting thread, before {@code post} returns.
+         */
+        SYNC,
+        /**
+         * On the bus thread, in posting order.
+         */
+        ASYNC,
+        /**
+         * On the bus thread, as the list of events posted during the last tick.
+         */
+        BATCHED
+    }
+
+    private static final long BATCH_INTERVAL_MS = 50L;
+
+    private static final int ASYNC_QUEUE_CAPACITY = 4096;
+
+    private static final int BATCH_CAPACITY = 4096;
+
+    static final int SAMPLE_RATE = 16;
+
+    private static final Subscriber<?>[] NONE = new Subscriber<?>[0];
+
+    /**
+     * What happens to a listener that keeps going over its budget.
+     */
+    public enum QuarantineAction {
+        /**
+         * Synchronous listeners are moved to asynchronous delivery, other listeners are left alone.
+         */
+        ASYNC,
+        /**
+         * The listener is unsubscribed.
+         */
+        DISABLE;
+
+        /**
+         * Parses a config value, falling back to {@link #ASYNC} for unknown values.
+         */
+        public static QuarantineAction parse(String value) {
+            return value != null && value.trim().equalsIgnoreCase("DISABLE") ? DISABLE : ASYNC;
+        }
+    }
+
+    private final Map<String, ListenerStats> stats = new ConcurrentHashMap<>();
+
+    private volatile long budgetNanos;
+
+    private volatile int budgetStrikes = 5;
+
+    private volatile QuarantineAction quarantineAction = QuarantineAction.ASYNC;
+
+    private final Map<Class<?>, Subscriber<?>[]> subscribers = new ConcurrentHashMap<>();
+
+    private volatile ThreadPoolExecutor asyncExecutor;
+
+    private volatile ScheduledExecutorService batchScheduler;
+
+    private final Consumer<String> warnings;
+
+    public LevelingEventBus() {
+        this(message -> LevelingCore.LOGGER.at(Level.WARNING).log(message));
+    }
+
+    /**
+     * Creates a bus reporting failing and quarantined listeners to the given sink instead of the plugin log.
+     */
+    LevelingEventBus(Consumer<String> warnings) {
+        this.warnings = warnings;
+    }
+
+    /**
+     * Subscribes a listener to one event type.
+     *
+     * @param type     The event type.
+     * @param owner    The object the listener belongs to, named in logs; usually the listener itself.
+     * @param listener The listener.
+     * @param delivery {@link Delivery#SYNC} or {@link Delivery#ASYNC}; batched subscribers use
+     *                 {@link #subscribeBatched}.
+     * @param priority Subscribers with a higher priority receive each event first.
+     * @return The handle removing the subscription.
+     */
+    public <E> Subscription subscribe(
+        Class<E> type,
+        Object owner,
+        Consumer<? super E> listener,
+        Delivery delivery,
+        int priority
+    ) {
+        if (delivery == Delivery.BATCHED) {
+            throw new LevelingCoreException("Batched subscribers receive lists, use subscribeBatched");
+        }
+        return add(new Subscriber<E>(type, owner, delivery, priority, listener, null));
+    }
+
+    /**
+     * Subscribes a listener that receives the events of one type in batches, once per tick. A batch that reaches
+     * {@value #BATCH_CAPACITY} events is delivered right away.
+     *
+     * @param type     The event type.
+     * @param owner    The object the listener belongs to, named in logs.
+     * @param listener The listener, called with the events in posting order.
+     * @param priority Subscribers with a higher priority come first.
+     * @return The handle removing the subscription.
+     */
+    public <E> Subscription subscribeBatched(Class<E> type, Object owner, Consumer<List<E>> listener, int priority) {
+        ensureBatchScheduler();
+        return add(new Subscriber<E>(type, owner, Delivery.BATCHED, priority, null, listener));
+    }
+
+    /**
+     * Wraps a listener that is not subscribed to any event type but invoked by the caller, such as a hook bound to a
+     * single player. Calls through the returned consumer are isolated, counted and timed like synchronous deliveries,
+     * and the listener is quarantined like a subscriber; once disabled, calls are ignored.
+     *
+     * @param type     The event type, named in logs.
+     * @param owner    The object the listener belongs to, named in logs and stats.
+     * @param listener The listener.
+     * @return The consumer delivering events to the listener.
+     */
+    public <E> Consumer<E> direct(Class<E> type, Object owner, Consumer<? super E> listener) {
+        return new Subscriber<E>(type, owner, Delivery.SYNC, 0, listener, null)::deliver;
+    }
+
+    /**
+     * Posts an event to every subscriber of its type.
+     *
+     * @param event The event.
+     */
+    @SuppressWarnings("unchecked")
+    public <E> void post(E event) {
+        var targets = subscribers.get(event.getClass());
+        if (targets == null)
+            return;
+        for (var subscriber : targets) {
+            ((Subscriber<E>) subscriber).deliver(event);
+        }
+    }
+
+    /**
+     * Checks whether an event type has subscribers, so callers can skip building events nobody receives.
+     */
+    public boolean hasSubscribers(Class<?> type) {
+        return subscribers.containsKey(type);
+    }
+
+    /**
+     * Retrieves the owners of the subscribers of an event type that are instances of the given class, in delivery
+     * order.
+     */
+    public <L> List<L> owners(Class<?> type, Class<L> ownerType) {
+        var out = new ArrayList<L>();
+        for (var subscriber : subscribers.getOrDefault(type, NONE)) {
+            if (ownerType.isInstance(subscriber.owner))
+                out.add(ownerType.cast(subscriber.owner));
+        }
+        return out;
+    }
+
+    /**
+     * Sets the time budget of a single delivery.
+     *
+     * @param budgetNanos The budget in nanoseconds, {@code 0} to never quarantine.
+     * @param strikes     How many sampled deliveries in a row must go over the budget before the listener is
+     *                    quarantined.
+     * @param action      What happens to a quarantined listener.
+     */
+    public void configureBudget(long budgetNanos, int strikes, QuarantineAction action) {
+        this.budgetNanos = Math.max(0L, budgetNanos);
+        this.budgetStrikes = Math.max(1, strikes);
+        this.quarantineAction = action == null ? QuarantineAction.ASYNC : action;
+    }
+
+    /**
+     * Retrieves the figures of every listener class subscribed so far, including quarantined ones.
+     */
+    public List<ListenerStats.Snapshot> getListenerStats() {
+        return stats.values().stream().map(ListenerStats::snapshot).toList();
+    }
+
+    /**
+     * Delivers the pending batches and stops the bus threads.
+     */
+    public synchronized void shutdown() {
+        if (batchScheduler != null) {
+            batchScheduler.shutdown();
+            batchScheduler = null;
+            flushBatches();
+        }
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+            try {
+                asyncExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            asyncExecutor = null;
+        }
+    }
+
+    private synchronized <E> Subscription add(Subscriber<E> subscriber) {
+        if (subscriber.delivery != Delivery.SYNC) {
+            ensureAsyncExecutor();
+        }
+        var current = subscribers.getOrDefault(subscriber.type, NONE);
+        var next = Arrays.copyOf(current, current.length + 1);
+        var at = current.length;
+        while (at > 0 && next[at - 1].priority < subscriber.priority) {
+            next[at] = next[at - 1];
+            at--;
+        }
+        next[at] = subscriber;
+        subscribers.put(subscriber.type, next);
+        return () -> remove(subscriber);
+    }
+
+    private synchronized void remove(Subscriber<?> subscriber) {
+        subscriber.active = false;
+        var current = subscribers.get(subscriber.type);
+        if (current == null)
+            return;
+        var next = Arrays.stream(current).filter(s -> s != subscriber).toArray(Subscriber<?>[]::new);
+        if (next.length == 0) {
+            subscribers.remove(subscriber.type);
+        } else {
+            subscribers.put(subscriber.type, next);
+        }
+    }
+
+    private synchronized void quarantine(Subscriber<?> subscriber, long nanos) {
+        if (!subscriber.active)
+            return;
+        var name = subscriber.stats.snapshot().listener();
+        var budgetMicros = budgetNanos / 1000L;
+        if (quarantineAction == QuarantineAction.ASYNC) {
+            if (subscriber.delivery != Delivery.SYNC)
+                return;
+            ensureAsyncExecutor();
+            subscriber.delivery = Delivery.ASYNC;
+            subscriber.stats.quarantine("async");
+            warnings.accept(
+                "Listener " + name + " went over its " + budgetMicros + " us budget " + budgetStrikes
+                    + " times in a row (last " + nanos / 1000L + " us), moved to asynchronous delivery"
+            );
+        } else {
+            remove(subscriber);
+            subscriber.stats.quarantine("disabled");
+            warnings.accept(
+                "Listener " + name + " went over its " + budgetMicros + " us budget " + budgetStrikes
+                    + " times in a row (last " + nanos / 1000L + " us), disabled"
+            );
+        }
+    }
+
+    private void ensureAsyncExecutor() {
+        if (asyncExecutor != null)
+            return;
+        asyncExecutor = new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(ASYNC_QUEUE_CAPACITY),
+            daemonThreads("LevelingCore-EventBus"),
+            // A full queue makes the poster deliver the event itself
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    private synchronized void ensureBatchScheduler() {
+        if (batchScheduler != null)
+            return;
+        batchScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("LevelingCore-EventBatches"));
+        batchScheduler.scheduleAtFixedRate(
+            this::flushBatches,
+            BATCH_INTERVAL_MS,
+            BATCH_INTERVAL_MS,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void flushBatches() {
+        for (var targets : subscribers.values()) {
+            for (var subscriber : targets) {
+                if (subscriber.delivery == Delivery.BATCHED)
+                    subscriber.flush();
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            var thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber<E> {
+
+        private final Class<E> type;
+
+        private final Object owner;
+
+        private volatile Delivery delivery;
+
+        private final int priority;
+
+        private final Consumer<? super E> listener;
+
+        private final Consumer<List<E>> batchListener;
+
+        private final ConcurrentLinkedQueue<E> pending;
+
+        private final AtomicInteger pendingCount;
+
+        private final ListenerStats stats;
+
+        private volatile boolean active = true;
+
+        // Both are only approximate under concurrent delivery, which is fine for sampling
+        private int sampleCounter;
+
+        private int strikes;
+
+        private Subscriber(
+            Class<E> type,
+            Object owner,
+            Delivery delivery,
+            int priority,
+            Consumer<? super E> listener,
+            Consumer<List<E>> batchListener
+        ) {
+            this.type = type;
+            this.owner = owner;
+            this.delivery = delivery;
+            this.priority = priority;
+            this.listener = listener;
+            this.batchListener = batchListener;
+            this.pending = delivery == Delivery.BATCHED ? new ConcurrentLinkedQueue<>() : null;
+            this.pendingCount = delivery == Delivery.BATCHED ? new AtomicInteger() : null;
+            this.stats = LevelingEventBus.this.stats.computeIfAbsent(
+                owner.getClass().getName(),
+                ListenerStats::new
+            );
+        }
+
+        private void deliver(E event) {
+            if (!active)
+                return;
+            switch (delivery) {
+                case SYNC -> invoke(event);
+                case ASYNC -> {
+                    var executor = asyncExecutor;
+                    if (executor == null || executor.isShutdown()) {
+                        invoke(event);
+                    } else {
+                        executor.execute(() -> {
+                            if (active)
+                                invoke(event);
+                        });
+                    }
+                }
+                case BATCHED -> {
+                    pending.add(event);
+                    if (pendingCount.incrementAndGet() >= BATCH_CAPACITY)
+                        flush();
+                }
+            }
+        }
+
+        private void invoke(E event) {
+            stats.count();
+            if ((++sampleCounter & (SAMPLE_RATE - 1)) != 0) {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    failed(e);
+                }
+                return;
+            }
+
+            var start = System.nanoTime();
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                failed(e);
+            }
+            var nanos = System.nanoTime() - start;
+            stats.sample(nanos);
+
+            var budget = budgetNanos;
+            if (budget <= 0L || nanos <= budget) {
+                strikes = 0;
+            } else if (++strikes >= budgetStrikes) {
+                strikes = 0;
+                quarantine(this, nanos);
+            }
+        }
+
+        private void failed(RuntimeException e) {
+            var failures = stats.fail();
+            // The first failures are logged in full, after that only every thousandth
+            if (failures <= 3 || failures % 1000 == 0) {
+                warnings.accept(
+                    "Listener " + owner.getClass().getName() + " failed on " + type.getSimpleName() + " ("
+                        + failures + " failures): " + e
+                );
+            }
+        }
+
+        private synchronized void flush() {
+            if (pendingCount.get() == 0)
+                return;
+            var batch = new ArrayList<E>(pendingCount.get());
+            E event;
+            while ((event = pending.poll()) != null) {
+                batch.add(event);
+            }
+            pendingCount.addAndGet(-batch.size());
+            if (!active || batch.isEmpty())
+                return;
+            stats.count();
+            var start = System.nanoTime();
+            try {
+                batchListener.accept(batch);
+            } catch (RuntimeException e) {
+                failed(e);
+            }
+            stats.sample(System.nanoTime() - start);
+        }
+    }
+}
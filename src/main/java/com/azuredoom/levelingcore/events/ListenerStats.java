@@ -0,0 +1,86 @@
+package com.azuredoom.levelingcore.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cost of the subscribers of one listener class on a {@link LevelingEventBus}. Every invocation is counted, but only
+ * one in {@value LevelingEventBus#SAMPLE_RATE} is timed, so measuring stays cheap on hot events such as XP gain.
+ */
+public final class ListenerStats {
+
+    private final String listener;
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder sampledCalls = new LongAdder();
+
+    private final LongAdder sampledNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private final LongAdder failures = new LongAdder();
+
+    private volatile String quarantine;
+
+    ListenerStats(String listener) {
+        this.listener = listener;
+    }
+
+    void count() {
+        calls.increment();
+    }
+
+    void sample(long nanos) {
+        sampledCalls.increment();
+        sampledNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    long fail() {
+        failures.increment();
+        return failures.sum();
+    }
+
+    void quarantine(String state) {
+        quarantine = state;
+    }
+
+    /**
+     * Captures the current figures.
+     */
+    public Snapshot snapshot() {
+        var sampled = sampledCalls.sum();
+        return new Snapshot(
+            listener,
+            calls.sum(),
+            sampled,
+            sampled == 0 ? 0L : sampledNanos.sum() / sampled,
+            maxNanos.get(),
+            failures.sum(),
+            quarantine
+        );
+    }
+
+    /**
+     * Figures of one listener class.
+     *
+     * @param listener     The name of the listener class.
+     * @param calls        How many events were delivered to it.
+     * @param sampledCalls How many of those deliveries were timed.
+     * @param averageNanos The average time of a timed delivery.
+     * @param maxNanos     The longest timed delivery.
+     * @param failures     How many deliveries threw an exception.
+     * @param quarantine   {@code "async"} or {@code "disabled"} once the listener went over its budget, otherwise
+     *                     {@code null}.
+     */
+    public record Snapshot(
+        String listener,
+        long calls,
+        long sampledCalls,
+        long averageNanos,
+        long maxNanos,
+        long failures,
+        String quarantine
+    ) {}
+}
@@ -0,0 +1,14 @@
+package com.azuredoom.levelingcore.events;
+
+import java.util.UUID;
+
+import com.azuredoom.levelingcore.playerdata.PlayerStat;
+
+/**
+ * Posted when one of a player's stats is set.
+ */
+public record StatChangeEvent(
+    UUID playerId,
+    PlayerStat stat,
+    int value
+) {}
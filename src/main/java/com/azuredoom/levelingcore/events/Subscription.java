@@ -0,0 +1,13 @@
+package com.azuredoom.levelingcore.events;
+
+/**
+ * Handle of a {@link LevelingEventBus} subscription.
+ */
+@FunctionalInterface
+public interface Subscription {
+
+    /**
+     * Stops delivering events to the subscriber. Events already queued for asynchronous delivery are dropped.
+     */
+    void unsubscribe();
+}
@@ -0,0 +1,11 @@
+package com.azuredoom.levelingcore.events;
+
+import java.util.UUID;
+
+/**
+ * Posted when a player gains experience points (XP).
+ */
+public record XpGainEvent(
+    UUID playerId,
+    long amount
+) {}
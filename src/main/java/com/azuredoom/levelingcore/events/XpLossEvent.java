@@ -0,0 +1,11 @@
+package com.azuredoom.levelingcore.events;
+
+import java.util.UUID;
+
+/**
+ * Posted when a player loses experience points (XP).
+ */
+public record XpLossEvent(
+    UUID playerId,
+    long amount
+) {}
@@ -2,16 +2,22 @@ package com.azuredoom.levelingcore.level;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import com.azuredoom.levelingcore.database.JdbcLevelRepository;
+import com.azuredoom.levelingcore.events.*;
 import com.azuredoom.levelingcore.level.formulas.LevelFormula;
 import com.azuredoom.levelingcore.listeners.*;
 import com.azuredoom.levelingcore.playerdata.PlayerLevelData;
+import com.azuredoom.levelingcore.playerdata.PlayerProgressComponent;
+import com.azuredoom.levelingcore.playerdata.PlayerStat;
 
 /**
  * Used for managing player levels and experience points (XP). This class provides methods to retrieve, modify, and
- * calculate levels and XP for individual players. It also supports notifying listeners for level-up, level-down, XP
- * gain, and XP loss events.
+ * calculate levels and XP for individual players. Every change is posted as a typed event to the service's
+ * {@link LevelingEventBus}, which delivers it to the listeners for level-up, level-down, XP gain, XP loss, stat and
+ * ability point events.
  */
 public class LevelServiceImpl {
 
@@ -21,27 +27,11 @@ public class LevelServiceImpl {
 
     private final Map<UUID, PlayerLevelData> cache = new ConcurrentHashMap<>();
 
-    private final List<LevelDownListener> levelDownListeners = new ArrayList<>();
+    private final Map<UUID, PlayerProgressComponent> progress = new ConcurrentHashMap<>();
 
-    private final List<LevelUpListener> levelUpListeners = new ArrayList<>();
+    private final LevelingEventBus eventBus = new LevelingEventBus();
 
-    private final List<XpGainListener> xpGainListeners = new ArrayList<>();
-
-    private final List<XpLossListener> xpLossListeners = new ArrayList<>();
-
-    private final List<StrengthListener> strListeners = new ArrayList<>();
-
-    private final List<AgilityListener> agiListeners = new ArrayList<>();
-
-    private final List<PerceptionListener> perListeners = new ArrayList<>();
-
-    private final List<VitalityListener> vitListeners = new ArrayList<>();
-
-    private final List<IntelligenceListener> intListeners = new ArrayList<>();
-
-    private final List<ConstitutionListener> conListeners = new ArrayList<>();
-
-    private final List<AbilityPointsListener> abilityPointsListeners = new ArrayList<>();
+    private final Map<UUID, Map<String, HookBinding>> playerHooks = new ConcurrentHashMap<>();
 
     public LevelServiceImpl(LevelFormula formula, JdbcLevelRepository repository) {
         this.formula = formula;
@@ -102,9 +92,9 @@ public class LevelServiceImpl {
         var newLevel = getLevel(id);
 
         if (newLevel > oldLevel) {
-            levelUpListeners.forEach(l -> l.onLevelUp(id, oldLevel, newLevel));
+            fireLevelUp(id, oldLevel, newLevel);
         } else if (newLevel < oldLevel) {
-            levelDownListeners.forEach(l -> l.onLevelDown(id, oldLevel, newLevel));
+            fireLevelDown(id, oldLevel, newLevel);
         }
     }
 
@@ -126,7 +116,7 @@ public class LevelServiceImpl {
 
         var newLevel = getLevel(id);
         if (newLevel < oldLevel) {
-            levelDownListeners.forEach(l -> l.onLevelDown(id, oldLevel, newLevel));
+            fireLevelDown(id, oldLevel, newLevel);
         }
     }
 
@@ -150,9 +140,9 @@ public class LevelServiceImpl {
 
         var newLevel = getLevel(playerId);
         if (newLevel > oldLevel) {
-            levelUpListeners.forEach(l -> l.onLevelUp(playerId, oldLevel, newLevel));
+            fireLevelUp(playerId, oldLevel, newLevel);
         } else if (newLevel < oldLevel) {
-            levelDownListeners.forEach(l -> l.onLevelDown(playerId, oldLevel, newLevel));
+            fireLevelDown(playerId, oldLevel, newLevel);
         }
 
         return newLevel;
@@ -188,12 +178,63 @@ public class LevelServiceImpl {
 
         setDataXP(data, data.getXp() + amount);
 
-        xpGainListeners.forEach(l -> l.onXpGain(id, amount));
+        eventBus.post(new XpGainEvent(id, amount));
 
         var newLevel = getLevel(id);
         if (newLevel > oldLevel) {
-            levelUpListeners.forEach(l -> l.onLevelUp(id, oldLevel, newLevel));
+            fireLevelUp(id, oldLevel, newLevel);
+        }
+    }
+
+    /**
+     * Adds experience points (XP) to several players at once, such as the members of a party sharing a kill. All
+     * awards are applied first and persisted together in one database batch, then the XP gain and level-up listeners
+     * are notified for each player exactly as {@link #addXp(UUID, long)} would.
+     *
+     * @param awards The amount of XP to add, keyed by the unique identifier (UUID) of each player.
+     * @return The players whose XP changed, so callers can refresh each one's HUD once.
+     */
+    public Set<UUID> addXpToMany(Map<UUID, Long> awards) {
+        var size = awards.size();
+        var ids = new UUID[size];
+        var amounts = new long[size];
+        var oldLevels = new int[size];
+        var batch = new ArrayList<PlayerLevelData>(size);
+
+        var count = 0;
+        for (var award : awards.entrySet()) {
+            var amount = award.getValue() == null ? 0L : award.getValue();
+            if (amount == 0L)
+                continue;
+            var data = get(award.getKey());
+            ids[count] = award.getKey();
+            amounts[count] = amount;
+            oldLevels[count] = formula.getLevelForXp(data.getXp());
+            data.setXp(data.getXp() + amount);
+            syncProgress(data);
+            batch.add(data);
+            count++;
+        }
+        if (count == 0) {
+            return Set.of();
         }
+
+        repository.saveAll(batch);
+
+        var affected = new LinkedHashSet<UUID>(count * 2);
+        for (var i = 0; i < count; i++) {
+            var id = ids[i];
+            var amount = amounts[i];
+            var oldLevel = oldLevels[i];
+            eventBus.post(new XpGainEvent(id, amount));
+
+            var newLevel = getLevel(id);
+            if (newLevel > oldLevel) {
+                fireLevelUp(id, oldLevel, newLevel);
+            }
+            affected.add(id);
+        }
+        return affected;
     }
 
     /**
@@ -209,11 +250,11 @@ public class LevelServiceImpl {
 
         setDataXP(data, data.getXp() - amount);
 
-        xpLossListeners.forEach(l -> l.onXpLoss(id, amount));
+        eventBus.post(new XpLossEvent(id, amount));
 
         var newLevel = getLevel(id);
         if (newLevel < oldLevel) {
-            levelDownListeners.forEach(l -> l.onLevelDown(id, oldLevel, newLevel));
+            fireLevelDown(id, oldLevel, newLevel);
         }
     }
 
@@ -232,82 +273,78 @@ public class LevelServiceImpl {
 
         var newLevel = getLevel(id);
         if (newLevel > oldLevel) {
-            levelUpListeners.forEach(l -> l.onLevelUp(id, oldLevel, newLevel));
+            fireLevelUp(id, oldLevel, newLevel);
         } else if (newLevel < oldLevel) {
-            levelDownListeners.forEach(l -> l.onLevelDown(id, oldLevel, newLevel));
+            fireLevelDown(id, oldLevel, newLevel);
         }
     }
 
-    public void setStr(UUID id, int str) {
+    /**
+     * Sets the value of one of the player's stats, persists the change and notifies the listeners of that stat.
+     *
+     * @param id    The unique identifier (UUID) of the player.
+     * @param stat  The stat to set.
+     * @param value The new value of the stat.
+     */
+    public void setStat(UUID id, PlayerStat stat, int value) {
         var data = get(id);
-        data.setStr(str);
+        data.setStat(stat, value);
         repository.save(data);
+        syncProgress(data);
+
+        eventBus.post(new StatChangeEvent(id, stat, value));
+    }
+
+    public int getStat(UUID id, PlayerStat stat) {
+        return get(id).getStat(stat);
+    }
 
-        strListeners.forEach(l -> l.onStrengthGain(id, str));
+    public void setStr(UUID id, int str) {
+        setStat(id, PlayerStat.STR, str);
     }
 
     public int getStr(UUID id) {
-        return get(id).getStr();
+        return getStat(id, PlayerStat.STR);
     }
 
     public void setAgi(UUID id, int agi) {
-        var data = get(id);
-        data.setAgi(agi);
-        repository.save(data);
-
-        agiListeners.forEach(l -> l.onAgilityGain(id, agi));
+        setStat(id, PlayerStat.AGI, agi);
     }
 
     public int getAgi(UUID id) {
-        return get(id).getAgi();
+        return getStat(id, PlayerStat.AGI);
     }
 
     public void setPer(UUID id, int per) {
-        var data = get(id);
-        data.setPer(per);
-        repository.save(data);
-
-        perListeners.forEach(l -> l.onPerceptionGain(id, per));
+        setStat(id, PlayerStat.PER, per);
     }
 
     public int getPer(UUID id) {
-        return get(id).getPer();
+        return getStat(id, PlayerStat.PER);
     }
 
     public void setVit(UUID id, int vit) {
-        var data = get(id);
-        data.setVit(vit);
-        repository.save(data);
-
-        vitListeners.forEach(l -> l.onVitalityGain(id, vit));
+        setStat(id, PlayerStat.VIT, vit);
     }
 
     public int getVit(UUID id) {
-        return get(id).getVit();
+        return getStat(id, PlayerStat.VIT);
     }
 
     public void setInt(UUID id, int intelligence) {
-        var data = get(id);
-        data.setIntelligence(intelligence);
-        repository.save(data);
-
-        intListeners.forEach(l -> l.onIntelligenceGain(id, intelligence));
+        setStat(id, PlayerStat.INT, intelligence);
     }
 
     public int getInt(UUID id) {
-        return get(id).getIntelligence();
+        return getStat(id, PlayerStat.INT);
     }
 
     public void setCon(UUID id, int con) {
-        var data = get(id);
-        data.setCon(con);
-        repository.save(data);
-
-        conListeners.forEach(l -> l.onConstitutionGain(id, con));
+        setStat(id, PlayerStat.CON, con);
     }
 
     public int getCon(UUID id) {
-        return get(id).getCon();
+        return getStat(id, PlayerStat.CON);
     }
 
     public void setAbilityPoints(UUID id, int abilityPoints) {
@@ -315,7 +352,7 @@ public class LevelServiceImpl {
         data.setAbilityPoints(abilityPoints);
         repository.save(data);
 
-        abilityPointsListeners.forEach(l -> l.onAbilityPointGain(id, abilityPoints));
+        eventBus.post(new AbilityPointsEvent(id, AbilityPointsEvent.Kind.GAIN, abilityPoints));
     }
 
     public int getAbilityPoints(UUID id) {
@@ -339,9 +376,7 @@ public class LevelServiceImpl {
         data.setAbilityPoints(data.getAbilityPoints() + pointsToAdd);
         repository.save(data);
 
-        abilityPointsListeners.forEach(
-            l -> l.onAbilityPointGain(id, pointsToAdd)
-        );
+        eventBus.post(new AbilityPointsEvent(id, AbilityPointsEvent.Kind.GAIN, pointsToAdd));
     }
 
     public void setUsedAbilityPoints(UUID id, int points) {
@@ -349,9 +384,7 @@ public class LevelServiceImpl {
         data.setUsedAbilityPoints(points);
         repository.save(data);
 
-        abilityPointsListeners.forEach(
-            l -> l.onAbilityPointLoss(id, points)
-        );
+        eventBus.post(new AbilityPointsEvent(id, AbilityPointsEvent.Kind.LOSS, points));
     }
 
     public boolean useAbilityPoints(UUID id, int amount) {
@@ -371,13 +404,62 @@ public class LevelServiceImpl {
         data.setUsedAbilityPoints(used + amount);
         repository.save(data);
 
-        abilityPointsListeners.forEach(
-            l -> l.onAbilityPointUsed(id, amount)
-        );
+        eventBus.post(new AbilityPointsEvent(id, AbilityPointsEvent.Kind.USED, amount));
 
         return true;
     }
 
+    /**
+     * Attaches a {@link PlayerProgressComponent} to the service so every later mutation of the player is mirrored into
+     * it. The component is filled with the current data before this method returns.
+     *
+     * @param id        The unique identifier (UUID) of the player the component belongs to.
+     * @param component The component attached to the player entity.
+     */
+    public void attachProgress(UUID id, PlayerProgressComponent component) {
+        progress.put(id, component);
+        syncProgress(get(id));
+    }
+
+    /**
+     * Stops mirroring mutations of the given player, called when the player entity goes away.
+     *
+     * @param id The unique identifier (UUID) of the player.
+     */
+    public void detachProgress(UUID id) {
+        progress.remove(id);
+    }
+
+    /**
+     * Registers level change hooks for a single player under a key. Registering the same key for the player again
+     * replaces the previous hooks, so registering on every join never piles up duplicates.
+     *
+     * @param id    The unique identifier (UUID) of the player the hooks belong to.
+     * @param key   The key of the registration, unique per owner, such as {@code "levelingcore:stats"}.
+     * @param hooks The hooks invoked for this player's level changes.
+     * @return A handle removing exactly this registration.
+     */
+    public ListenerHandle registerPlayerHooks(UUID id, String key, PlayerLevelHooks hooks) {
+        var binding = new HookBinding(
+            eventBus.direct(LevelUpEvent.class, hooks, e -> hooks.onLevelUp(e.oldLevel(), e.newLevel())),
+            eventBus.direct(LevelDownEvent.class, hooks, e -> hooks.onLevelDown(e.oldLevel(), e.newLevel()))
+        );
+        playerHooks.computeIfAbsent(id, uuid -> new ConcurrentHashMap<>()).put(key, binding);
+        return () -> playerHooks.computeIfPresent(id, (uuid, byKey) -> {
+            byKey.remove(key, binding);
+            return byKey.isEmpty() ? null : byKey;
+        });
+    }
+
+    /**
+     * Removes every hook registered for a player, called when the player disconnects.
+     *
+     * @param id The unique identifier (UUID) of the player.
+     */
+    public void removePlayerHooks(UUID id) {
+        playerHooks.remove(id);
+    }
+
     /**
      * Registers a listener to be notified of events when a player levels down. The listener's {@code onLevelDown}
      * method will be triggered whenever a player's level is decreased due to a specific action or condition in the
@@ -386,7 +468,13 @@ public class LevelServiceImpl {
      * @param listener The {@link LevelDownListener} to be registered for receiving level-down notifications.
      */
     public void registerLevelDownListener(LevelDownListener listener) {
-        levelDownListeners.add(listener);
+        eventBus.subscribe(
+            LevelDownEvent.class,
+            listener,
+            e -> listener.onLevelDown(e.playerId(), e.oldLevel(), e.newLevel()),
+            LevelingEventBus.Delivery.SYNC,
+            0
+        );
     }
 
     /**
@@ -396,7 +484,7 @@ public class LevelServiceImpl {
      * @return A list of {@link LevelDownListener} objects currently registered to receive level-down notifications.
      */
     public List<LevelDownListener> getLevelDownListeners() {
-        return levelDownListeners;
+        return eventBus.owners(LevelDownEvent.class, LevelDownListener.class);
     }
 
     /**
@@ -406,7 +494,13 @@ public class LevelServiceImpl {
      * @param listener The {@link LevelUpListener} to be registered for receiving notifications about level-up events.
      */
     public void registerLevelUpListener(LevelUpListener listener) {
-        levelUpListeners.add(listener);
+        eventBus.subscribe(
+            LevelUpEvent.class,
+            listener,
+            e -> listener.onLevelUp(e.playerId(), e.oldLevel(), e.newLevel()),
+            LevelingEventBus.Delivery.SYNC,
+            0
+        );
     }
 
     /**
@@ -416,7 +510,7 @@ public class LevelServiceImpl {
      * @return A list of {@link LevelUpListener} objects currently registered to receive level-up notifications.
      */
     public List<LevelUpListener> getLevelUpListeners() {
-        return levelUpListeners;
+        return eventBus.owners(LevelUpEvent.class, LevelUpListener.class);
     }
 
     /**
@@ -426,7 +520,13 @@ public class LevelServiceImpl {
      * @param listener The {@link XpGainListener} to be registered for receiving XP gain notifications.
      */
     public void registerXpGainListener(XpGainListener listener) {
-        xpGainListeners.add(listener);
+        eventBus.subscribe(
+            XpGainEvent.class,
+            listener,
+            e -> listener.onXpGain(e.playerId(), e.amount()),
+            LevelingEventBus.Delivery.SYNC,
+            0
+        );
     }
 
     /**
@@ -436,7 +536,7 @@ public class LevelServiceImpl {
      * @return A list of {@link XpGainListener} objects currently registered to handle XP gain notifications.
      */
     public List<XpGainListener> getXpGainListeners() {
-        return xpGainListeners;
+        return eventBus.owners(XpGainEvent.class, XpGainListener.class);
     }
 
     /**
@@ -446,7 +546,13 @@ public class LevelServiceImpl {
      * @param listener The {@link XpLossListener} to be registered for receiving XP loss notifications.
      */
     public void registerXpLossListener(XpLossListener listener) {
-        xpLossListeners.add(listener);
+        eventBus.subscribe(
+            XpLossEvent.class,
+            listener,
+            e -> listener.onXpLoss(e.playerId(), e.amount()),
+            LevelingEventBus.Delivery.SYNC,
+            0
+        );
     }
 
     /**
@@ -456,55 +562,112 @@ public class LevelServiceImpl {
      * @return A list of {@link XpLossListener} objects currently registered to receive XP loss notifications.
      */
     public List<XpLossListener> getXpLossListeners() {
-        return xpLossListeners;
+        return eventBus.owners(XpLossEvent.class, XpLossListener.class);
     }
 
     public void registerStrengthListener(StrengthListener listener) {
-        strListeners.add(listener);
+        subscribeStat(listener, PlayerStat.STR, (id, value) -> listener.onStrengthGain(id, value));
     }
 
     public List<StrengthListener> getStrengthListeners() {
-        return strListeners;
+        return eventBus.owners(StatChangeEvent.class, StrengthListener.class);
     }
 
     public void registerAgilityListener(AgilityListener listener) {
-        agiListeners.add(listener);
+        subscribeStat(listener, PlayerStat.AGI, (id, value) -> listener.onAgilityGain(id, value));
     }
 
     public List<AgilityListener> getAgilityListeners() {
-        return agiListeners;
+        return eventBus.owners(StatChangeEvent.class, AgilityListener.class);
     }
 
     public void registerPerceptionListener(PerceptionListener listener) {
-        perListeners.add(listener);
+        subscribeStat(listener, PlayerStat.PER, (id, value) -> listener.onPerceptionGain(id, value));
     }
 
     public List<PerceptionListener> getPerceptionListeners() {
-        return perListeners;
+        return eventBus.owners(StatChangeEvent.class, PerceptionListener.class);
     }
 
     public void registerVitalityListener(VitalityListener listener) {
-        vitListeners.add(listener);
+        subscribeStat(listener, PlayerStat.VIT, (id, value) -> listener.onVitalityGain(id, value));
     }
 
     public List<VitalityListener> getVitalityListeners() {
-        return vitListeners;
+        return eventBus.owners(StatChangeEvent.class, VitalityListener.class);
     }
 
     public void registerIntelligenceListener(IntelligenceListener listener) {
-        intListeners.add(listener);
+        subscribeStat(listener, PlayerStat.INT, (id, value) -> listener.onIntelligenceGain(id, value));
     }
 
     public List<IntelligenceListener> getIntelligenceListeners() {
-        return intListeners;
+        return eventBus.owners(StatChangeEvent.class, IntelligenceListener.class);
     }
 
     public void registerConstitutionListener(ConstitutionListener listener) {
-        conListeners.add(listener);
+        subscribeStat(listener, PlayerStat.CON, (id, value) -> listener.onConstitutionGain(id, value));
     }
 
     public List<ConstitutionListener> getConstitutionListeners() {
-        return conListeners;
+        return eventBus.owners(StatChangeEvent.class, ConstitutionListener.class);
+    }
+
+    public void registerAbilityPointsListener(AbilityPointsListener listener) {
+        eventBus.subscribe(AbilityPointsEvent.class, listener, e -> {
+            switch (e.kind()) {
+                case GAIN -> listener.onAbilityPointGain(e.playerId(), e.amount());
+                case LOSS -> listener.onAbilityPointLoss(e.playerId(), e.amount());
+                case USED -> listener.onAbilityPointUsed(e.playerId(), e.amount());
+            }
+        }, LevelingEventBus.Delivery.SYNC, 0);
+    }
+
+    public List<AbilityPointsListener> getAbilityPointsListeners() {
+        return eventBus.owners(AbilityPointsEvent.class, AbilityPointsListener.class);
+    }
+
+    /**
+     * Retrieves the event bus every change of a player is posted to. The {@code register*Listener} methods subscribe
+     * synchronously at priority {@code 0}; subscribing on the bus directly also allows a priority, asynchronous
+     * delivery and per-tick batches.
+     *
+     * @return The {@link LevelingEventBus} of this service.
+     */
+    public LevelingEventBus getEventBus() {
+        return eventBus;
+    }
+
+    private void subscribeStat(Object listener, PlayerStat stat, BiConsumer<UUID, Integer> target) {
+        eventBus.subscribe(StatChangeEvent.class, listener, e -> {
+            if (e.stat() == stat)
+                target.accept(e.playerId(), e.value());
+        }, LevelingEventBus.Delivery.SYNC, 0);
+    }
+
+    /**
+     * Posts a {@link LevelUpEvent} and invokes the player's hooks. Hooks run through the event bus, so one that throws
+     * or stalls is isolated like any other listener.
+     */
+    private void fireLevelUp(UUID id, int oldLevel, int newLevel) {
+        var event = new LevelUpEvent(id, oldLevel, newLevel);
+        eventBus.post(event);
+        var hooks = playerHooks.get(id);
+        if (hooks != null) {
+            hooks.values().forEach(h -> h.levelUp().accept(event));
+        }
+    }
+
+    /**
+     * Posts a {@link LevelDownEvent} and invokes the player's hooks, see {@link #fireLevelUp}.
+     */
+    private void fireLevelDown(UUID id, int oldLevel, int newLevel) {
+        var event = new LevelDownEvent(id, oldLevel, newLevel);
+        eventBus.post(event);
+        var hooks = playerHooks.get(id);
+        if (hooks != null) {
+            hooks.values().forEach(h -> h.levelDown().accept(event));
+        }
     }
 
     /**
@@ -518,5 +681,31 @@ public class LevelServiceImpl {
     private void setDataXP(PlayerLevelData data, long xp) {
         data.setXp(xp);
         repository.save(data);
+        syncProgress(data);
     }
+
+    /**
+     * Copies the level, XP bounds and stats of the given data into the player's attached
+     * {@link PlayerProgressComponent}, if there is one.
+     *
+     * @param data The {@link PlayerLevelData} that was just changed.
+     */
+    private void syncProgress(PlayerLevelData data) {
+        var component = progress.get(data.getPlayerId());
+        if (component == null) {
+            return;
+        }
+
+        var level = formula.getLevelForXp(data.getXp());
+        component.level = level;
+        component.xp = data.getXp();
+        component.levelStartXp = getXpForLevel(level);
+        component.nextLevelXp = getXpForLevel(level + 1);
+        data.copyStats(component.stats);
+    }
+
+    /**
+     * The {@link PlayerLevelHooks} of one registration, wrapped by the event bus.
+     */
+    private record HookBinding(Consumer<LevelUpEvent> levelUp, Consumer<LevelDownEvent> levelDown) {}
 }
@@ -1,20 +1,51 @@
 package com.azuredoom.levelingcore.level.mobs;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
+
+import com.azuredoom.levelingcore.utils.MobLevelingUtil;
 
 public enum CoreLevelMode implements LevelMode {
 
-    SPAWN_ONLY,
-    BIOME,
-    ZONE,
-    NEARBY_PLAYERS_MEAN,
-    INSTANCE;
+    SPAWN_ONLY(EnumSet.noneOf(LevelModeInput.class)),
+    BIOME(EnumSet.of(LevelModeInput.WORLD, LevelModeInput.NEARBY_PLAYERS)),
+    ZONE(EnumSet.of(LevelModeInput.WORLD, LevelModeInput.NEARBY_PLAYERS)),
+    NEARBY_PLAYERS_MEAN(EnumSet.of(LevelModeInput.POSITION, LevelModeInput.NEARBY_PLAYERS)),
+    INSTANCE(EnumSet.of(LevelModeInput.WORLD)),
+    DISTANCE(EnumSet.of(LevelModeInput.POSITION));
+
+    private final Set<LevelModeInput> inputs;
+
+    CoreLevelMode(Set<LevelModeInput> inputs) {
+        this.inputs = inputs;
+    }
 
     @Override
     public String getId() {
         return name();
     }
 
+    @Override
+    public Set<LevelModeInput> getInputs() {
+        return inputs;
+    }
+
+    @Override
+    public int computeLevel(LevelModeContext context) {
+        return switch (this) {
+            case SPAWN_ONLY -> context.spawnLevel();
+            case NEARBY_PLAYERS_MEAN -> MobLevelingUtil.computeNearbyPlayersMeanLevel(
+                context.transform(),
+                context.store()
+            );
+            case BIOME -> MobLevelingUtil.computeBiomeLevel(context.store());
+            case ZONE -> MobLevelingUtil.computeZoneLevel(context.store());
+            case INSTANCE -> MobLevelingUtil.computeInstanceLevel(context.store());
+            case DISTANCE -> MobLevelingUtil.computeDistanceLevel(context.transform(), context.store());
+        };
+    }
+
     public static Optional<CoreLevelMode> fromString(String value) {
         if (value == null)
             return Optional.empty();
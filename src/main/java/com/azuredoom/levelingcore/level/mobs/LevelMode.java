@@ -1,6 +1,41 @@
 package com.azuredoom.levelingcore.level.mobs;
 
+import java.util.Set;
+
+/**
+ * A strategy for computing mob levels. Modes are registered with {@link LevelModeRegistry} and selected by id through
+ * the {@code LevelMode} config option, which lets other plugins provide their own modes.
+ * <p>
+ * Each mode declares the {@link LevelModeInput inputs} it reads. Modes that read nothing that can change during a mob's
+ * lifetime are static and are computed exactly once when the mob is first seen; the others are only recomputed when
+ * one of their declared inputs may have changed.
+ */
 public interface LevelMode {
 
     String getId();
+
+    /**
+     * Retrieves the inputs this mode reads. An empty set means the level only depends on the mob itself.
+     *
+     * @return the inputs read by {@link #computeLevel(LevelModeContext)}.
+     */
+    Set<LevelModeInput> getInputs();
+
+    /**
+     * Computes the level of a mob. The result is clamped to the formula's max level by the caller.
+     *
+     * @param context The mob being leveled and the world it lives in.
+     * @return the computed level.
+     */
+    int computeLevel(LevelModeContext context);
+
+    /**
+     * Determines whether levels computed by this mode can never change for a given mob.
+     *
+     * @return {@code true} if the mode reads neither the mob's position nor nearby players.
+     */
+    default boolean isStatic() {
+        var inputs = getInputs();
+        return !inputs.contains(LevelModeInput.POSITION) && !inputs.contains(LevelModeInput.NEARBY_PLAYERS);
+    }
 }
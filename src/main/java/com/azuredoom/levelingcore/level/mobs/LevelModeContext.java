@@ -0,0 +1,21 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+
+/**
+ * Everything a {@link LevelMode} may read when computing the level of a single mob.
+ *
+ * @param npc        The mob being leveled.
+ * @param transform  The transform of the mob.
+ * @param store      The entity store of the world the mob lives in.
+ * @param spawnLevel The level the mob was given when it first spawned.
+ */
+public record LevelModeContext(
+    NPCEntity npc,
+    TransformComponent transform,
+    Store<EntityStore> store,
+    int spawnLevel
+) {}
@@ -0,0 +1,23 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+/**
+ * The inputs a {@link LevelMode} reads when computing a mob level. The mob level scheduler only recomputes a level when
+ * one of the inputs its mode declares can have changed.
+ */
+public enum LevelModeInput {
+
+    /**
+     * The world the mob lives in. A mob never changes worlds, so a mode reading only this input is static.
+     */
+    WORLD,
+
+    /**
+     * The position of the mob.
+     */
+    POSITION,
+
+    /**
+     * The players near the mob, including their levels and positions.
+     */
+    NEARBY_PLAYERS
+}
@@ -0,0 +1,77 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+
+/**
+ * Registry of the available {@link LevelMode} implementations, keyed by case-insensitive id. The built-in
+ * {@link CoreLevelMode} values are always present; other plugins add their own modes through
+ * {@link #register(LevelMode)} and select them with the {@code LevelMode} config option.
+ */
+public final class LevelModeRegistry {
+
+    private static final LevelMode DEFAULT_MODE = CoreLevelMode.NEARBY_PLAYERS_MEAN;
+
+    private static final ConcurrentHashMap<String, LevelMode> MODES = new ConcurrentHashMap<>();
+
+    static {
+        for (var mode : CoreLevelMode.values()) {
+            MODES.put(key(mode.getId()), mode);
+        }
+    }
+
+    private LevelModeRegistry() {}
+
+    /**
+     * Registers a level mode. A mode registered under an id that is already taken by another plugin replaces it.
+     *
+     * @param mode The level mode to register.
+     * @throws LevelingCoreException if the mode has no id or tries to replace a built-in mode.
+     */
+    public static void register(LevelMode mode) {
+        if (mode == null || mode.getId() == null || mode.getId().isBlank()) {
+            throw new LevelingCoreException("Level mode must have a non-blank id");
+        }
+        var key = key(mode.getId());
+        if (CoreLevelMode.fromString(key).isPresent()) {
+            throw new LevelingCoreException("Level mode " + mode.getId() + " is built in and cannot be replaced");
+        }
+        MODES.put(key, mode);
+    }
+
+    public static void unregister(String id) {
+        if (id == null || CoreLevelMode.fromString(id).isPresent())
+            return;
+        MODES.remove(key(id));
+    }
+
+    public static Optional<LevelMode> get(String id) {
+        if (id == null)
+            return Optional.empty();
+        return Optional.ofNullable(MODES.get(key(id)));
+    }
+
+    /**
+     * Resolves the mode selected by the config, falling back to {@link CoreLevelMode#NEARBY_PLAYERS_MEAN} when the id
+     * is missing or unknown.
+     *
+     * @param id The configured level mode id.
+     * @return the matching level mode or the default mode.
+     */
+    public static LevelMode resolve(String id) {
+        return get(id).orElse(DEFAULT_MODE);
+    }
+
+    public static Collection<LevelMode> getModes() {
+        return Collections.unmodifiableCollection(MODES.values());
+    }
+
+    private static String key(String id) {
+        return id.trim().toUpperCase(Locale.ROOT);
+    }
+}
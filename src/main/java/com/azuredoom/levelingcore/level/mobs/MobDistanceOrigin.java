@@ -0,0 +1,12 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+/**
+ * Point of a world from which the {@code DISTANCE} level mode measures mob distance.
+ */
+public record MobDistanceOrigin(
+    double x,
+    double z
+) {
+
+    public static final MobDistanceOrigin ZERO = new MobDistanceOrigin(0, 0);
+}
@@ -0,0 +1,57 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiled ring table of the {@code DISTANCE} level mode. Each ring starts at a distance from the world origin and
+ * assigns a level to every mob at or beyond it, up to the next ring. Ring starts are stored squared and sorted, so a
+ * lookup compares squared distances without a square root and only walks the handful of rings.
+ */
+public final class MobDistanceRings {
+
+    private final double[] startDistanceSq;
+
+    private final int[] levels;
+
+    private MobDistanceRings(double[] startDistanceSq, int[] levels) {
+        this.startDistanceSq = startDistanceSq;
+        this.levels = levels;
+    }
+
+    /**
+     * Compiles a mapping of ring start distances, in blocks, to levels.
+     *
+     * @param rings The ring start distances mapped to the level of that ring.
+     * @return The compiled rings; mobs closer than the first ring get level 1.
+     */
+    public static MobDistanceRings compile(Map<Integer, Integer> rings) {
+        var sorted = new TreeMap<>(rings);
+        var startDistanceSq = new double[sorted.size()];
+        var levels = new int[sorted.size()];
+        var i = 0;
+        for (var ring : sorted.entrySet()) {
+            var start = Math.max(0, ring.getKey());
+            startDistanceSq[i] = (double) start * start;
+            levels[i] = Math.max(1, ring.getValue());
+            i++;
+        }
+        return new MobDistanceRings(startDistanceSq, levels);
+    }
+
+    /**
+     * Retrieves the level of the ring containing the given squared distance from the origin.
+     */
+    public int levelFor(double distanceSq) {
+        var index = Arrays.binarySearch(startDistanceSq, distanceSq);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index < 0 ? 1 : levels[index];
+    }
+
+    public int size() {
+        return levels.length;
+    }
+}
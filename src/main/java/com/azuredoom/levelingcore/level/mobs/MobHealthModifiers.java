@@ -0,0 +1,65 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import com.hypixel.hytale.server.core.modules.entitystats.modifier.Modifier;
+import com.hypixel.hytale.server.core.modules.entitystats.modifier.StaticModifier;
+
+import com.azuredoom.levelingcore.LevelingCore;
+
+/**
+ * Flyweight cache of the max-health modifiers applied to leveled mobs. Every mob of the same level shares one
+ * immutable {@link StaticModifier}, so a level change never allocates. The per-level health factor comes from the
+ * {@link MobScalingProfile}, and the cache is rebuilt when the configured health multiplier changes.
+ */
+public final class MobHealthModifiers {
+
+    private static final int MAX_CACHED_LEVEL = 1024;
+
+    private static volatile Cache cache = new Cache(Float.NaN);
+
+    private MobHealthModifiers() {}
+
+    /**
+     * Returns the shared max-health modifier for the given mob level.
+     *
+     * @param level            The mob level, clamped to at least 1.
+     * @param healthMultiplier The configured per-level health multiplier.
+     * @return The modifier adding {@code 1 + profileHealth(level) * healthMultiplier} to max health.
+     */
+    public static StaticModifier forLevel(int level, float healthMultiplier) {
+        var lvl = Math.max(1, level);
+        var current = cache;
+        if (Float.compare(current.healthMultiplier, healthMultiplier) != 0) {
+            current = new Cache(healthMultiplier);
+            cache = current;
+        }
+        if (lvl > MAX_CACHED_LEVEL) {
+            return create(lvl, healthMultiplier);
+        }
+
+        var modifier = current.modifiers[lvl];
+        if (modifier == null) {
+            modifier = create(lvl, healthMultiplier);
+            current.modifiers[lvl] = modifier;
+        }
+        return modifier;
+    }
+
+    private static StaticModifier create(int level, float healthMultiplier) {
+        return new StaticModifier(
+            Modifier.ModifierTarget.MAX,
+            StaticModifier.CalculationType.ADDITIVE,
+            1F + LevelingCore.mobScalingProfile.health(level) * healthMultiplier
+        );
+    }
+
+    private static final class Cache {
+
+        private final float healthMultiplier;
+
+        private final StaticModifier[] modifiers = new StaticModifier[MAX_CACHED_LEVEL + 1];
+
+        private Cache(float healthMultiplier) {
+            this.healthMultiplier = healthMultiplier;
+        }
+    }
+}
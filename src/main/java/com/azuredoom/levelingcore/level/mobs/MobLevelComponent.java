@@ -0,0 +1,115 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nullable;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.level.xp.DamageContribution;
+
+/**
+ * Level state of a mob, attached to its NPC entity and saved with it by the world's entity storage. Only the spawn
+ * level, current level and lock survive a save; the remaining fields are scheduling state rebuilt after the entity is
+ * loaded again.
+ */
+public final class MobLevelComponent implements Component<EntityStore> {
+
+    public static final BuilderCodec<MobLevelComponent> CODEC = BuilderCodec.builder(
+        MobLevelComponent.class,
+        MobLevelComponent::new
+    )
+        .append(
+            new KeyedCodec<Integer>("SpawnLevel", Codec.INTEGER),
+            (component, aInteger, extraInfo) -> component.spawnLevel = aInteger,
+            (component, extraInfo) -> component.spawnLevel
+        )
+        .add()
+        .append(
+            new KeyedCodec<Integer>("Level", Codec.INTEGER),
+            (component, aInteger, extraInfo) -> component.level = aInteger,
+            (component, extraInfo) -> component.level
+        )
+        .add()
+        .append(
+            new KeyedCodec<Boolean>("Locked", Codec.BOOLEAN),
+            (component, aBoolean, extraInfo) -> component.locked = aBoolean,
+            (component, extraInfo) -> component.locked
+        )
+        .add()
+        .build();
+
+    public int spawnLevel = 1;
+
+    public int level = 1;
+
+    public boolean locked;
+
+    public long lastRecalcTick;
+
+    /**
+     * The level whose scaling is currently applied to the mob's stats, or {@code 0} if none was applied since it was
+     * loaded.
+     */
+    public int lastAppliedLevel;
+
+    /**
+     * The mode that last computed {@link #level}, or {@code null} if no mode has run for this mob yet.
+     */
+    public LevelMode mode;
+
+    public double lastRecalcX;
+
+    public double lastRecalcZ;
+
+    /**
+     * The id of the {@link MobPack} this mob spawned into, or {@code 0} if it is leveled on its own. Packs are not
+     * saved, so a reloaded mob is leveled on its own.
+     */
+    public long packId;
+
+    /**
+     * This member's fixed offset from the level of its pack.
+     */
+    public int packOffset;
+
+    /**
+     * The level currently shown on the mob's nameplate, or {@code 0} if the nameplate was not written since load.
+     */
+    public int nameplateLevel;
+
+    /**
+     * The nameplate text the mob had before its level was added to it.
+     */
+    public String nameplateBase;
+
+    /**
+     * Damage dealt to the mob by each player, or {@code null} until a player first hits it. Never saved.
+     */
+    public DamageContribution damageContribution;
+
+    public MobLevelComponent() {}
+
+    public MobLevelComponent(int spawnLevel) {
+        this.spawnLevel = spawnLevel;
+        this.level = spawnLevel;
+    }
+
+    public static ComponentType<EntityStore, MobLevelComponent> getComponentType() {
+        return LevelingCore.mobLevelComponentType;
+    }
+
+    @Nullable
+    @Override
+    public Component<EntityStore> clone() {
+        var copy = new MobLevelComponent(spawnLevel);
+        copy.level = level;
+        copy.locked = locked;
+        copy.nameplateBase = nameplateBase;
+        return copy;
+    }
+}
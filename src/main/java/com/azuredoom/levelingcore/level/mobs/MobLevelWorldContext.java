@@ -0,0 +1,147 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.utils.MobLevelingUtil;
+
+/**
+ * Mob leveling state owned by a single world. It is a resource of the world's entity store, so it is created with the
+ * world, discarded when the world unloads, and only ever touched from that world's thread. Worlds ticking on different
+ * threads therefore never share a cache or a throttle.
+ */
+public final class MobLevelWorldContext implements Resource<EntityStore> {
+
+    private static final long REFRESH_INTERVAL_MS = 1000L;
+
+    private static final long PLAYER_SNAPSHOT_INTERVAL_MS = 250L;
+
+    private int maxLevel = -1;
+
+    private LevelMode mode = CoreLevelMode.NEARBY_PLAYERS_MEAN;
+
+    private long lastRefreshMs;
+
+    private MobDistanceOrigin distanceOrigin;
+
+    private final MobPackTracker packs = new MobPackTracker();
+
+    private double[] playerPositions = new double[0];
+
+    private long lastPlayerSnapshotMs;
+
+    public MobLevelWorldContext() {}
+
+    public static ResourceType<EntityStore, MobLevelWorldContext> getResourceType() {
+        return LevelingCore.mobLevelWorldContextType;
+    }
+
+    /**
+     * Re-reads the formula's max level and the configured level mode, at most once per second.
+     *
+     * @param config The plugin config holding the {@code LevelMode} option.
+     * @param nowMs  The current timestamp.
+     */
+    public void refresh(Config<GUIConfig> config, long nowMs) {
+        if (maxLevel != -1 && nowMs - lastRefreshMs <= REFRESH_INTERVAL_MS) {
+            return;
+        }
+        lastRefreshMs = nowMs;
+        maxLevel = MobLevelingUtil.loadMaxMobLevel(maxLevel == -1 ? 100 : maxLevel);
+        mode = LevelModeRegistry.resolve(config.get().getLevelMode());
+    }
+
+    /**
+     * Retrieves the max level of the configured leveling formula, which also caps mob levels in this world.
+     */
+    public int getMaxLevel() {
+        return maxLevel == -1 ? 100 : maxLevel;
+    }
+
+    /**
+     * Retrieves the origin the {@code DISTANCE} mode measures from in this world, falling back to the {@code default}
+     * row of the origin mapping and then to {@code 0, 0}. Resolved once per world.
+     *
+     * @param worldName The name of the world owning this context.
+     */
+    public MobDistanceOrigin getDistanceOrigin(String worldName) {
+        if (distanceOrigin == null) {
+            var origins = LevelingCore.mobDistanceOrigins;
+            var key = worldName == null ? "default" : worldName.toLowerCase();
+            distanceOrigin = origins.getOrDefault(key, origins.getOrDefault("default", MobDistanceOrigin.ZERO));
+        }
+        return distanceOrigin;
+    }
+
+    /**
+     * Retrieves the packs of mobs that spawned together in this world.
+     */
+    public MobPackTracker getPacks() {
+        return packs;
+    }
+
+    /**
+     * Checks whether any player of this world is within the given horizontal distance of a point. Player positions
+     * are snapshotted into a flat array at most every {@value #PLAYER_SNAPSHOT_INTERVAL_MS} ms, so repeated checks
+     * from many mobs in one tick only scan that array.
+     *
+     * @param store    The entity store of this world.
+     * @param x        The X position to test.
+     * @param z        The Z position to test.
+     * @param radiusSq The squared horizontal distance.
+     * @param nowMs    The current timestamp.
+     */
+    public boolean hasPlayerWithin(Store<EntityStore> store, double x, double z, double radiusSq, long nowMs) {
+        if (nowMs - lastPlayerSnapshotMs >= PLAYER_SNAPSHOT_INTERVAL_MS) {
+            lastPlayerSnapshotMs = nowMs;
+            var players = store.getExternalData().getWorld().getPlayers();
+            var positions = new double[players.size() * 2];
+            var count = 0;
+            for (var player : players) {
+                var playerRef = player.getPlayerRef();
+                if (playerRef == null || playerRef.getTransform() == null)
+                    continue;
+                var position = playerRef.getTransform().getPosition();
+                positions[count++] = position.getX();
+                positions[count++] = position.getZ();
+            }
+            playerPositions = count == positions.length ? positions : Arrays.copyOf(positions, count);
+        }
+
+        var positions = playerPositions;
+        for (var i = 0; i < positions.length; i += 2) {
+            var dx = positions[i] - x;
+            var dz = positions[i + 1] - z;
+            if (dx * dx + dz * dz <= radiusSq) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the level mode selected by the {@code LevelMode} config option.
+     */
+    public LevelMode getMode() {
+        return mode;
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        var copy = new MobLevelWorldContext();
+        copy.maxLevel = maxLevel;
+        copy.mode = mode;
+        copy.lastRefreshMs = lastRefreshMs;
+        copy.distanceOrigin = distanceOrigin;
+        return copy;
+    }
+}
@@ -0,0 +1,33 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+/**
+ * A group of mobs that spawned together and share one computed level. Members read {@link #level} and add their own
+ * {@link MobLevelComponent#packOffset}; the recalculation state mirrors the per-mob fields so the pack is scheduled
+ * exactly like a single mob.
+ */
+public final class MobPack {
+
+    public final long id;
+
+    final long cellKey;
+
+    final long createdMs;
+
+    int members;
+
+    public int level;
+
+    public long lastRecalcTick;
+
+    public LevelMode mode;
+
+    public double lastRecalcX;
+
+    public double lastRecalcZ;
+
+    MobPack(long id, long cellKey, long createdMs) {
+        this.id = id;
+        this.cellKey = cellKey;
+        this.createdMs = createdMs;
+    }
+}
@@ -0,0 +1,75 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Groups mobs of one world into packs. Mobs spawning in the same {@value #CELL_SIZE}-block cell within
+ * {@value #SPAWN_WINDOW_MS} ms of the first one join its pack, and a pack is dropped once its last member leaves. The
+ * tracker belongs to a {@link MobLevelWorldContext}, so it is only used from its world's thread and needs no locking.
+ */
+public final class MobPackTracker {
+
+    private static final int CELL_SHIFT = 5;
+
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    private static final long SPAWN_WINDOW_MS = 5000L;
+
+    private final Map<Long, MobPack> packs = new HashMap<>();
+
+    private final Map<Long, MobPack> openPacksByCell = new HashMap<>();
+
+    private long nextId = 1L;
+
+    public MobPackTracker() {}
+
+    /**
+     * Adds a freshly spawned mob to the pack still open in its cell, or opens a new pack there.
+     *
+     * @param x     The spawn X position of the mob.
+     * @param z     The spawn Z position of the mob.
+     * @param nowMs The current timestamp.
+     * @return The pack the mob joined. A pack with a single member has no level computed yet.
+     */
+    public MobPack join(double x, double z, long nowMs) {
+        var cellKey = cellKey(x, z);
+        var pack = openPacksByCell.get(cellKey);
+        if (pack == null || nowMs - pack.createdMs > SPAWN_WINDOW_MS || !packs.containsKey(pack.id)) {
+            pack = new MobPack(nextId++, cellKey, nowMs);
+            packs.put(pack.id, pack);
+            openPacksByCell.put(cellKey, pack);
+        }
+        pack.members++;
+        return pack;
+    }
+
+    public MobPack get(long id) {
+        return packs.get(id);
+    }
+
+    /**
+     * Removes a member from its pack, dropping the pack when it was the last one.
+     *
+     * @param id The id of the pack the member belonged to.
+     */
+    public void leave(long id) {
+        var pack = packs.get(id);
+        if (pack == null)
+            return;
+        if (--pack.members <= 0) {
+            packs.remove(id);
+            openPacksByCell.remove(pack.cellKey, pack);
+        }
+    }
+
+    public int size() {
+        return packs.size();
+    }
+
+    private static long cellKey(double x, double z) {
+        var cx = (long) Math.floor(x) >> CELL_SHIFT;
+        var cz = (long) Math.floor(z) >> CELL_SHIFT;
+        return (cx << 32) ^ (cz & 0xFFFFFFFFL);
+    }
+}
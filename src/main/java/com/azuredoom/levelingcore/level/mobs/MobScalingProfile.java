@@ -0,0 +1,193 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.config.internal.ConfigManager;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+
+/**
+ * Per-level scaling factors for mobs, read from {@code mobscalingprofile.csv}. Each row maps a level to a health, a
+ * damage and an XP factor; levels between two rows are interpolated linearly and levels past the last row use the last
+ * row. The table is compiled once into primitive arrays indexed by level, so every lookup is a single array read.
+ * <ul>
+ * <li>{@code health} scales {@code MobHealthMultiplier}, the mob gains {@code 1 + health * MobHealthMultiplier} max
+ * health.</li>
+ * <li>{@code damage} scales {@code MobDamageMultiplier} and {@code MobRangeDamageMultiplier} for mob hits on
+ * players.</li>
+ * <li>{@code xp} multiplies the XP awarded for killing the mob.</li>
+ * </ul>
+ * A file without rows falls back to the legacy linear scaling: {@code level - 1} for health, {@code level} for damage
+ * and {@code 1} for XP.
+ */
+public final class MobScalingProfile {
+
+    public static final String FILE_NAME = "mobscalingprofile.csv";
+
+    public static final String RESOURCE_DEFAULT = "/defaultmobscalingprofile.csv";
+
+    static final MobScalingProfile LEGACY = new MobScalingProfile(new float[0], new float[0], new float[0]);
+
+    private final float[] health;
+
+    private final float[] damage;
+
+    private final float[] xp;
+
+    private MobScalingProfile(float[] health, float[] damage, float[] xp) {
+        this.health = health;
+        this.damage = damage;
+        this.xp = xp;
+    }
+
+    public static MobScalingProfile loadOrCreate(Path dataDir) {
+        try {
+            Files.createDirectories(dataDir);
+            var configPath = dataDir.resolve(FILE_NAME);
+
+            if (Files.notExists(configPath)) {
+                try (InputStream in = ConfigManager.class.getResourceAsStream(RESOURCE_DEFAULT)) {
+                    if (in == null) {
+                        throw new LevelingCoreException(
+                            "defaultmobscalingprofile.csv not found in resources (expected at " + RESOURCE_DEFAULT + ")"
+                        );
+                    }
+                    LevelingCore.LOGGER.at(Level.INFO)
+                        .log("Creating default Mob Scaling Profile config at " + configPath);
+                    Files.copy(in, configPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+
+            var rows = readProfileCsv(configPath);
+            if (rows.isEmpty()) {
+                LevelingCore.LOGGER.at(Level.INFO)
+                    .log("Mob Scaling Profile at " + configPath + " has no rows, using legacy linear scaling");
+                return LEGACY;
+            }
+
+            var profile = compile(rows);
+            LevelingCore.LOGGER.at(Level.INFO)
+                .log("Loaded Mob Scaling Profile from " + configPath + " (" + rows.size() + " rows)");
+            return profile;
+
+        } catch (Exception e) {
+            throw new LevelingCoreException("Failed to load Mob Scaling Profile config", e);
+        }
+    }
+
+    /**
+     * Retrieves the health factor of the given level, which scales {@code MobHealthMultiplier}.
+     */
+    public float health(int level) {
+        return health.length == 0 ? Math.max(0, level - 1) : health[clamp(level)];
+    }
+
+    /**
+     * Retrieves the damage factor of the given level, which scales the configured mob damage multipliers.
+     */
+    public float damage(int level) {
+        return damage.length == 0 ? Math.max(1, level) : damage[clamp(level)];
+    }
+
+    /**
+     * Retrieves the XP factor of the given level, which multiplies the XP awarded for the kill.
+     */
+    public float xp(int level) {
+        return xp.length == 0 ? 1F : xp[clamp(level)];
+    }
+
+    private int clamp(int level) {
+        return Math.max(1, Math.min(level, health.length - 1));
+    }
+
+    static MobScalingProfile compile(TreeMap<Integer, float[]> rows) {
+        var maxLevel = rows.lastKey();
+        var health = new float[maxLevel + 1];
+        var damage = new float[maxLevel + 1];
+        var xp = new float[maxLevel + 1];
+
+        for (var lvl = 1; lvl <= maxLevel; lvl++) {
+            var lower = rows.floorEntry(lvl);
+            var upper = rows.ceilingEntry(lvl);
+            float[] values;
+            if (lower == null) {
+                values = upper.getValue();
+            } else if (upper == null || lower.getKey().equals(upper.getKey())) {
+                values = lower.getValue();
+            } else {
+                var t = (lvl - lower.getKey()) / (float) (upper.getKey() - lower.getKey());
+                var a = lower.getValue();
+                var b = upper.getValue();
+                values = new float[] { a[0] + (b[0] - a[0]) * t, a[1] + (b[1] - a[1]) * t, a[2] + (b[2] - a[2]) * t };
+            }
+            health[lvl] = values[0];
+            damage[lvl] = values[1];
+            xp[lvl] = values[2];
+        }
+        health[0] = health[1];
+        damage[0] = damage[1];
+        xp[0] = xp[1];
+
+        return new MobScalingProfile(health, damage, xp);
+    }
+
+    private static TreeMap<Integer, float[]> readProfileCsv(Path csvPath) throws Exception {
+        var out = new TreeMap<Integer, float[]>();
+
+        try (var reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+            String line;
+            var firstNonEmptyLine = true;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty())
+                    continue;
+                if (line.startsWith("#"))
+                    continue;
+
+                if (firstNonEmptyLine) {
+                    firstNonEmptyLine = false;
+                    if (line.equalsIgnoreCase("lvl,health,damage,xp")) {
+                        continue;
+                    }
+                }
+
+                var parts = line.split(",", 4);
+                if (parts.length != 4) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping invalid CSV line: " + line);
+                    continue;
+                }
+
+                int lvl;
+                float[] values;
+                try {
+                    lvl = Integer.parseInt(parts[0].trim());
+                    values = new float[] {
+                        Float.parseFloat(parts[1].trim()),
+                        Float.parseFloat(parts[2].trim()),
+                        Float.parseFloat(parts[3].trim()) };
+                } catch (NumberFormatException nfe) {
+                    LevelingCore.LOGGER.at(Level.WARNING)
+                        .log("Invalid Mob Scaling Profile values (line: " + line + ")");
+                    continue;
+                }
+
+                if (lvl < 1) {
+                    LevelingCore.LOGGER.at(Level.WARNING)
+                        .log("Mob Scaling Profile level must be >= 1 (line: " + line + ")");
+                    continue;
+                }
+
+                out.put(lvl, values);
+            }
+        }
+
+        return out;
+    }
+}
@@ -1,6 +0,0 @@
-package com.azuredoom.levelingcore.level.mobs;
-
-public record PersistedMobLevel(
-    int spawnLevel,
-    boolean locked
-) {}
@@ -0,0 +1,106 @@
+package com.azuredoom.levelingcore.level.mobs.mapping;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.config.internal.ConfigManager;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+import com.azuredoom.levelingcore.level.mobs.MobDistanceRings;
+
+public class MobDistanceMapping {
+
+    public static final String FILE_NAME = "mobdistancemapping.csv";
+
+    public static final String RESOURCE_DEFAULT = "/defaultmobdistancemapping.csv";
+
+    private MobDistanceMapping() {}
+
+    public static MobDistanceRings loadOrCreate(Path dataDir) {
+        try {
+            Files.createDirectories(dataDir);
+            var configPath = dataDir.resolve(FILE_NAME);
+
+            if (Files.notExists(configPath)) {
+                try (InputStream in = ConfigManager.class.getResourceAsStream(RESOURCE_DEFAULT)) {
+                    if (in == null) {
+                        throw new LevelingCoreException(
+                            "defaultmobdistancemapping.csv not found in resources (expected at " + RESOURCE_DEFAULT
+                                + ")"
+                        );
+                    }
+                    LevelingCore.LOGGER.at(Level.INFO)
+                        .log("Creating default Mob Distance Levels Mapping config at " + configPath);
+                    Files.copy(in, configPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+
+            var rings = MobDistanceRings.compile(readDistanceCsv(configPath));
+
+            LevelingCore.LOGGER.at(Level.INFO)
+                .log(
+                    "Loaded Mob Distance Levels Mapping mapping from " + configPath + " " + rings.size() + " entries)"
+                );
+            return rings;
+
+        } catch (Exception e) {
+            throw new LevelingCoreException("Failed to load Mob Distance Levels Mapping config", e);
+        }
+    }
+
+    private static Map<Integer, Integer> readDistanceCsv(Path csvPath) throws Exception {
+        Map<Integer, Integer> out = new LinkedHashMap<>();
+
+        try (var reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+            String line;
+            var firstNonEmptyLine = true;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty())
+                    continue;
+                if (line.startsWith("#"))
+                    continue;
+
+                if (firstNonEmptyLine) {
+                    firstNonEmptyLine = false;
+                    if (line.equalsIgnoreCase("distance,lvl")) {
+                        continue;
+                    }
+                }
+
+                var parts = line.split(",", 2);
+                if (parts.length != 2) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping invalid CSV line: " + line);
+                    continue;
+                }
+
+                var distanceStr = parts[0].trim();
+                var lvlStr = parts[1].trim();
+
+                int distance;
+                int lvl;
+                try {
+                    distance = Integer.parseInt(distanceStr);
+                    lvl = Integer.parseInt(lvlStr);
+                } catch (NumberFormatException nfe) {
+                    LevelingCore.LOGGER.at(Level.WARNING)
+                        .log(
+                            "Invalid Distance value for " + distanceStr + ": " + lvlStr + " (line: " + line + ")"
+                        );
+                    continue;
+                }
+
+                out.put(distance, lvl);
+            }
+        }
+
+        return out;
+    }
+}
@@ -0,0 +1,107 @@
+package com.azuredoom.levelingcore.level.mobs.mapping;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.config.internal.ConfigManager;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+import com.azuredoom.levelingcore.level.mobs.MobDistanceOrigin;
+
+public class MobDistanceOriginMapping {
+
+    public static final String FILE_NAME = "mobdistanceoriginmapping.csv";
+
+    public static final String RESOURCE_DEFAULT = "/defaultmobdistanceoriginmapping.csv";
+
+    private MobDistanceOriginMapping() {}
+
+    public static Map<String, MobDistanceOrigin> loadOrCreate(Path dataDir) {
+        try {
+            Files.createDirectories(dataDir);
+            var configPath = dataDir.resolve(FILE_NAME);
+
+            if (Files.notExists(configPath)) {
+                try (InputStream in = ConfigManager.class.getResourceAsStream(RESOURCE_DEFAULT)) {
+                    if (in == null) {
+                        throw new LevelingCoreException(
+                            "defaultmobdistanceoriginmapping.csv not found in resources (expected at "
+                                + RESOURCE_DEFAULT + ")"
+                        );
+                    }
+                    LevelingCore.LOGGER.at(Level.INFO)
+                        .log("Creating default Mob Distance Origin Mapping config at " + configPath);
+                    Files.copy(in, configPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+
+            var mapping = readOriginCsv(configPath);
+
+            LevelingCore.LOGGER.at(Level.INFO)
+                .log(
+                    "Loaded Mob Distance Origin Mapping mapping from " + configPath + " " + mapping.size() + " entries)"
+                );
+            return mapping;
+
+        } catch (Exception e) {
+            throw new LevelingCoreException("Failed to load Mob Distance Origin Mapping config", e);
+        }
+    }
+
+    private static Map<String, MobDistanceOrigin> readOriginCsv(Path csvPath) throws Exception {
+        Map<String, MobDistanceOrigin> out = new LinkedHashMap<>();
+
+        try (var reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+            String line;
+            var firstNonEmptyLine = true;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty())
+                    continue;
+                if (line.startsWith("#"))
+                    continue;
+
+                if (firstNonEmptyLine) {
+                    firstNonEmptyLine = false;
+                    if (line.equalsIgnoreCase("world,x,z")) {
+                        continue;
+                    }
+                }
+
+                var parts = line.split(",", 3);
+                if (parts.length != 3) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping invalid CSV line: " + line);
+                    continue;
+                }
+
+                var worldStr = parts[0].trim();
+                if (worldStr.isEmpty()) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping CSV line with empty world: " + line);
+                    continue;
+                }
+
+                double x;
+                double z;
+                try {
+                    x = Double.parseDouble(parts[1].trim());
+                    z = Double.parseDouble(parts[2].trim());
+                } catch (NumberFormatException nfe) {
+                    LevelingCore.LOGGER.at(Level.WARNING)
+                        .log("Invalid Origin value for " + worldStr + " (line: " + line + ")");
+                    continue;
+                }
+
+                out.put(worldStr.toLowerCase(), new MobDistanceOrigin(x, z));
+            }
+        }
+
+        return out;
+    }
+}
@@ -0,0 +1,109 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Damage dealt to one mob by each player, used to split the kill XP between everyone who fought it instead of only
+ * the player landing the killing blow. The tracker holds at most {@value #CAPACITY} players in two parallel arrays;
+ * once it is full a new attacker replaces the smallest contributor if its hit is larger.
+ * <p>
+ * A tracker belongs to the {@code MobLevelComponent} of its mob and is only touched from the world thread ticking
+ * that mob, so it needs no locking. It is dropped together with the component when the mob dies or despawns.
+ */
+public final class DamageContribution {
+
+    public static final int CAPACITY = 8;
+
+    private final Ref<?>[] players = new Ref<?>[CAPACITY];
+
+    private final float[] damage = new float[CAPACITY];
+
+    private int size;
+
+    private float total;
+
+    private float lastHealth = -1F;
+
+    /**
+     * Records damage dealt by a player.
+     *
+     * @param player The entity reference of the attacking player.
+     * @param amount The damage dealt, ignored if not positive.
+     */
+    public void record(Ref<EntityStore> player, float amount) {
+        if (amount <= 0F)
+            return;
+
+        var smallest = 0;
+        for (var i = 0; i < size; i++) {
+            if (players[i] == player || players[i].equals(player)) {
+                damage[i] += amount;
+                total += amount;
+                return;
+            }
+            if (damage[i] < damage[smallest])
+                smallest = i;
+        }
+
+        if (size < CAPACITY) {
+            players[size] = player;
+            damage[size] = amount;
+            size++;
+            total += amount;
+        } else if (amount > damage[smallest]) {
+            total += amount - damage[smallest];
+            players[smallest] = player;
+            damage[smallest] = amount;
+        }
+    }
+
+    /**
+     * Retrieves the number of players that contributed damage.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the entity reference of the contributor at the given slot.
+     */
+    @SuppressWarnings("unchecked")
+    public Ref<EntityStore> player(int slot) {
+        return (Ref<EntityStore>) players[slot];
+    }
+
+    /**
+     * Retrieves the share of the total damage dealt by the contributor at the given slot, between {@code 0} and
+     * {@code 1}.
+     */
+    public float share(int slot) {
+        return total <= 0F ? 0F : damage[slot] / total;
+    }
+
+    /**
+     * Retrieves the mob's health after the last recorded hit, or the given fallback if no hit was recorded yet.
+     */
+    public float lastHealth(float fallback) {
+        return lastHealth < 0F ? fallback : lastHealth;
+    }
+
+    /**
+     * Remembers the mob's health after a recorded hit, which caps the damage counted for the killing blow.
+     */
+    public void setLastHealth(float health) {
+        lastHealth = Math.max(0F, health);
+    }
+
+    /**
+     * Forgets every contributor, called once the kill XP was handed out.
+     */
+    public void clear() {
+        for (var i = 0; i < size; i++) {
+            players[i] = null;
+        }
+        size = 0;
+        total = 0F;
+        lastHealth = -1F;
+    }
+}
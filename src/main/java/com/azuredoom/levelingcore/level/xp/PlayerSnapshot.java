@@ -0,0 +1,97 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.azuredoom.levelingcore.playerdata.PlayerProgressComponent;
+
+/**
+ * Positions and levels of the players of one world, captured once and then read by every XP award of the same tick.
+ * The capture is lazy: a snapshot that is never queried never walks the player list.
+ */
+public final class PlayerSnapshot {
+
+    private final Store<EntityStore> store;
+
+    private Map<UUID, Integer> index;
+
+    private double[] positions;
+
+    private int[] levels;
+
+    private PlayerRef[] refs;
+
+    public PlayerSnapshot(Store<EntityStore> store) {
+        this.store = store;
+    }
+
+    /**
+     * Checks whether a player of this world is within the given horizontal distance of another player of this world.
+     * Players in other worlds are never within range.
+     *
+     * @param a        The first player.
+     * @param b        The second player.
+     * @param radiusSq The squared horizontal distance.
+     */
+    public boolean isWithin(UUID a, UUID b, double radiusSq) {
+        capture();
+        var i = index.get(a);
+        var j = index.get(b);
+        if (i == null || j == null)
+            return false;
+        var dx = positions[i * 2] - positions[j * 2];
+        var dz = positions[i * 2 + 1] - positions[j * 2 + 1];
+        return dx * dx + dz * dz <= radiusSq;
+    }
+
+    /**
+     * Retrieves the level of a player of this world, or {@code 0} if the player is not in it or not ready yet.
+     */
+    public int getLevel(UUID playerUuid) {
+        capture();
+        var i = index.get(playerUuid);
+        return i == null ? 0 : levels[i];
+    }
+
+    /**
+     * Retrieves the reference of a player of this world, or {@code null} if the player is not in it.
+     */
+    public PlayerRef getPlayerRef(UUID playerUuid) {
+        capture();
+        var i = index.get(playerUuid);
+        return i == null ? null : refs[i];
+    }
+
+    private void capture() {
+        if (index != null)
+            return;
+        var players = store.getExternalData().getWorld().getPlayers();
+        index = new HashMap<>(players.size() * 2);
+        positions = new double[players.size() * 2];
+        levels = new int[players.size()];
+        refs = new PlayerRef[players.size()];
+
+        var count = 0;
+        for (var player : players) {
+            var playerRef = player.getPlayerRef();
+            if (playerRef == null || playerRef.getTransform() == null || count >= levels.length)
+                continue;
+            var position = playerRef.getTransform().getPosition();
+            positions[count * 2] = position.getX();
+            positions[count * 2 + 1] = position.getZ();
+            var entityRef = playerRef.getReference();
+            PlayerProgressComponent progress = entityRef == null || !entityRef.isValid()
+                ? null
+                : store.getComponent(entityRef, PlayerProgressComponent.getComponentType());
+            levels[count] = progress == null ? 0 : progress.level;
+            refs[count] = playerRef;
+            index.put(player.getUuid(), count);
+            count++;
+        }
+    }
+}
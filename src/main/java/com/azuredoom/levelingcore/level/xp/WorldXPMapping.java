@@ -0,0 +1,108 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.config.internal.ConfigManager;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+
+public class WorldXPMapping {
+
+    public static final String FILE_NAME = "worldxpmapping.csv";
+
+    public static final String RESOURCE_DEFAULT = "/defaultworldxpmapping.csv";
+
+    private WorldXPMapping() {}
+
+    public static Map<String, Double> loadOrCreate(Path dataDir) {
+        try {
+            Files.createDirectories(dataDir);
+            var configPath = dataDir.resolve(FILE_NAME);
+
+            if (Files.notExists(configPath)) {
+                try (InputStream in = ConfigManager.class.getResourceAsStream(RESOURCE_DEFAULT)) {
+                    if (in == null) {
+                        throw new LevelingCoreException(
+                            "defaultworldxpmapping.csv not found in resources (expected at " + RESOURCE_DEFAULT
+                                + ")"
+                        );
+                    }
+                    LevelingCore.LOGGER.at(Level.INFO)
+                        .log("Creating default World XP Multiplier Mapping config at " + configPath);
+                    Files.copy(in, configPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+
+            var mapping = readMultiplierCsv(configPath);
+
+            LevelingCore.LOGGER.at(Level.INFO)
+                .log(
+                    "Loaded World XP Multiplier Mapping mapping from " + configPath + " " + mapping.size() + " entries)"
+                );
+            return mapping;
+
+        } catch (Exception e) {
+            throw new LevelingCoreException("Failed to load World XP Multiplier Mapping config", e);
+        }
+    }
+
+    private static Map<String, Double> readMultiplierCsv(Path csvPath) throws Exception {
+        Map<String, Double> out = new LinkedHashMap<>();
+
+        try (var reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+            String line;
+            var firstNonEmptyLine = true;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty())
+                    continue;
+                if (line.startsWith("#"))
+                    continue;
+
+                if (firstNonEmptyLine) {
+                    firstNonEmptyLine = false;
+                    if (line.equalsIgnoreCase("world,multiplier")) {
+                        continue;
+                    }
+                }
+
+                var parts = line.split(",", 2);
+                if (parts.length != 2) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping invalid CSV line: " + line);
+                    continue;
+                }
+
+                var worldStr = parts[0].trim();
+                var multiplierStr = parts[1].trim();
+
+                if (worldStr.isEmpty()) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping CSV line with empty world: " + line);
+                    continue;
+                }
+
+                double multiplier;
+                try {
+                    multiplier = Double.parseDouble(multiplierStr);
+                } catch (NumberFormatException nfe) {
+                    LevelingCore.LOGGER.at(Level.WARNING)
+                        .log(
+                            "Invalid Multiplier value for " + worldStr + ": " + multiplierStr + " (line: " + line + ")"
+                        );
+                    continue;
+                }
+
+                out.put(worldStr.toLowerCase(), multiplier);
+            }
+        }
+
+        return out;
+    }
+}
@@ -0,0 +1,107 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.api.LevelingCoreApi;
+import com.azuredoom.levelingcore.compat.PartyProviders;
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.lang.CommandLang;
+
+/**
+ * Collects the XP awarded to each player during one tick of a world and applies it in a single pass once the tick is
+ * done. Twenty kills from one AoE attack therefore cost one {@code addXp}, one database write, one notification and one
+ * HUD update for the player, while the level-up listeners and message still see every level crossed.
+ * <p>
+ * The buffer is a resource of the world's entity store and is only used from that world's thread, so it needs no
+ * locking.
+ */
+public final class XpAwardBuffer implements Resource<EntityStore> {
+
+    private final Map<UUID, PendingAward> pending = new LinkedHashMap<>();
+
+    private Store<EntityStore> store;
+
+    public XpAwardBuffer() {}
+
+    public static ResourceType<EntityStore, XpAwardBuffer> getResourceType() {
+        return LevelingCore.xpAwardBufferType;
+    }
+
+    /**
+     * Adds XP to the player's award for this tick. The first award of a tick schedules the flush on the world.
+     *
+     * @param player    The player being awarded.
+     * @param playerRef The player's reference, used for notifications and the HUD.
+     * @param xp        The XP to add.
+     * @param config    The plugin config.
+     * @param store     The entity store of the world the kill happened in.
+     */
+    public void add(Player player, PlayerRef playerRef, long xp, Config<GUIConfig> config, Store<EntityStore> store) {
+        if (pending.isEmpty()) {
+            this.store = store;
+            store.getExternalData().getWorld().execute(() -> flush(config));
+        }
+        var award = pending.get(player.getUuid());
+        if (award == null) {
+            pending.put(player.getUuid(), new PendingAward(player, playerRef, xp));
+        } else {
+            award.xp += xp;
+        }
+    }
+
+    private void flush(Config<GUIConfig> config) {
+        if (pending.isEmpty())
+            return;
+        var awards = pending.values().toArray(new PendingAward[0]);
+        pending.clear();
+        // Party shares of every award in this flush read the same capture of the world's players
+        var snapshot = new PlayerSnapshot(store);
+
+        LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> {
+            for (var award : awards) {
+                var uuid = award.player.getUuid();
+                var levelBefore = levelService.getLevel(uuid);
+                // Party plugin integration is resolved once at startup
+                PartyProviders.get().onXPGain(award.xp, uuid, levelService, config, award.playerRef, snapshot);
+                var levelAfter = levelService.getLevel(uuid);
+                if (levelAfter > levelBefore) {
+                    if (config.get().isEnableLevelChatMsgs())
+                        award.player.sendMessage(CommandLang.LEVEL_UP.param("level", levelAfter));
+                }
+            }
+        });
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        return new XpAwardBuffer();
+    }
+
+    private static final class PendingAward {
+
+        private final Player player;
+
+        private final PlayerRef playerRef;
+
+        private long xp;
+
+        private PendingAward(Player player, PlayerRef playerRef, long xp) {
+            this.player = player;
+            this.playerRef = playerRef;
+            this.xp = xp;
+        }
+    }
+}
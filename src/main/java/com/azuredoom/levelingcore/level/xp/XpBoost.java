@@ -0,0 +1,38 @@
+package com.azuredoom.levelingcore.level.xp;
+
+/**
+ * Server-wide timed XP boost, applied by the boost stage of the {@link XpModifierPipeline}.
+ */
+public final class XpBoost {
+
+    private static volatile Active active = new Active(1.0, 0L);
+
+    private XpBoost() {}
+
+    /**
+     * Starts a boost, replacing any boost still running.
+     *
+     * @param multiplier The XP multiplier while the boost runs.
+     * @param durationMs How long the boost lasts, in milliseconds.
+     */
+    public static void start(double multiplier, long durationMs) {
+        active = new Active(multiplier, System.currentTimeMillis() + Math.max(0L, durationMs));
+    }
+
+    public static void stop() {
+        active = new Active(1.0, 0L);
+    }
+
+    /**
+     * Retrieves the multiplier of the running boost, or {@code 1} when none is running.
+     */
+    public static double multiplier(long nowMs) {
+        var current = active;
+        return nowMs < current.endMs() ? current.multiplier() : 1.0;
+    }
+
+    private record Active(
+        double multiplier,
+        long endMs
+    ) {}
+}
@@ -0,0 +1,88 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Approximate count of recent kills per key, used by the anti-farm stage of the {@link XpModifierPipeline}. It is a
+ * count-min sketch: {@value #DEPTH} rows of {@value #WIDTH} counters, where a key increments one counter per row and
+ * its count is the smallest of them. Collisions can only over-count, never under-count, and the memory used is fixed
+ * no matter how many players or NPC types are tracked.
+ * <p>
+ * Every counter is halved once per elapsed half-life, so kills fade out instead of being forgotten all at once.
+ * Counters are atomic, so worlds ticking on different threads can share the sketch without locking.
+ */
+public final class XpFarmSketch {
+
+    private static final int DEPTH = 4;
+
+    private static final int WIDTH = 1 << 12;
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L,
+        0xC2B2AE3D27D4EB4FL,
+        0x165667B19E3779F9L,
+        0xD6E8FEB86659FD93L };
+
+    private final AtomicIntegerArray counters = new AtomicIntegerArray(DEPTH * WIDTH);
+
+    private final AtomicLong lastDecayMs = new AtomicLong();
+
+    public XpFarmSketch() {}
+
+    /**
+     * Counts one more occurrence of a key and retrieves its estimated count, including this one.
+     *
+     * @param key        The hashed key, see {@link #key(long, long, long)}.
+     * @param nowMs      The current timestamp.
+     * @param halfLifeMs How long it takes for a count to halve.
+     */
+    public int incrementAndEstimate(long key, long nowMs, long halfLifeMs) {
+        decayIfDue(nowMs, halfLifeMs);
+
+        var estimate = Integer.MAX_VALUE;
+        for (var row = 0; row < DEPTH; row++) {
+            var slot = row * WIDTH + (int) (mix(key ^ SEEDS[row]) & (WIDTH - 1));
+            var count = counters.incrementAndGet(slot);
+            if (count < estimate)
+                estimate = count;
+        }
+        return estimate;
+    }
+
+    /**
+     * Combines the parts of a key, such as a player UUID and an NPC role index, into a single well spread hash.
+     */
+    public static long key(long a, long b, long c) {
+        return mix(mix(a) ^ b * 0xBF58476D1CE4E5B9L ^ c * 0x94D049BB133111EBL);
+    }
+
+    private void decayIfDue(long nowMs, long halfLifeMs) {
+        var last = lastDecayMs.get();
+        if (last == 0L) {
+            lastDecayMs.compareAndSet(0L, nowMs);
+            return;
+        }
+        var elapsed = (nowMs - last) / Math.max(1L, halfLifeMs);
+        if (elapsed <= 0L || !lastDecayMs.compareAndSet(last, last + elapsed * halfLifeMs)) {
+            return;
+        }
+        // Only the thread winning the exchange decays the counters, by one halving per elapsed half-life
+        var shift = (int) Math.min(elapsed, 31L);
+        for (var i = 0; i < DEPTH * WIDTH; i++) {
+            if (counters.get(i) == 0)
+                continue;
+            if (shift >= 31) {
+                counters.set(i, 0);
+            } else {
+                counters.getAndUpdate(i, count -> count >>> shift);
+            }
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
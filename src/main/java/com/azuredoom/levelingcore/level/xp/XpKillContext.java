@@ -0,0 +1,61 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import java.util.UUID;
+
+/**
+ * Inputs of one kill for the {@link XpModifierPipeline}. One instance is reused per thread and overwritten for every
+ * kill, so evaluating the pipeline allocates nothing.
+ */
+public final class XpKillContext {
+
+    public UUID playerUuid;
+
+    public int playerLevel;
+
+    public int mobLevel;
+
+    public String npcTypeId;
+
+    public int npcRoleIndex;
+
+    public float mobMaxHealth;
+
+    /**
+     * The name of the world the kill happened in, lowercased, or {@code null} if unknown.
+     */
+    public String worldName;
+
+    public double mobX;
+
+    public double mobZ;
+
+    public XpKillContext() {}
+
+    public XpKillContext set(
+        UUID playerUuid,
+        int playerLevel,
+        int mobLevel,
+        String npcTypeId,
+        int npcRoleIndex,
+        float mobMaxHealth,
+        String worldName
+    ) {
+        this.playerUuid = playerUuid;
+        this.playerLevel = playerLevel;
+        this.mobLevel = mobLevel;
+        this.npcTypeId = npcTypeId;
+        this.npcRoleIndex = npcRoleIndex;
+        this.mobMaxHealth = mobMaxHealth;
+        this.worldName = worldName == null ? null : worldName.toLowerCase();
+        return this;
+    }
+
+    /**
+     * Sets where the mob died, read by stages that care about the area of a kill.
+     */
+    public XpKillContext at(double mobX, double mobZ) {
+        this.mobX = mobX;
+        this.mobZ = mobZ;
+        return this;
+    }
+}
@@ -0,0 +1,224 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import com.hypixel.hytale.server.core.util.Config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.compat.PartyProviders;
+import com.azuredoom.levelingcore.compat.PartyXpShareMode;
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+
+/**
+ * Computes the XP awarded for a kill as a chain of {@link XpModifierStage}s. The core chain is base source, level
+ * difference curve, mob level profile, world multiplier, anti-farm falloff, timed boost and party split; plugins insert
+ * their own stages between them by order. The chain is compiled into a flat array whenever the config is loaded or a
+ * stage is registered, so evaluating a kill is a plain loop over that array.
+ */
+public final class XpModifierPipeline {
+
+    public static final int ORDER_BASE = 0;
+
+    public static final int ORDER_LEVEL_DIFFERENCE = 100;
+
+    public static final int ORDER_MOB_LEVEL = 200;
+
+    public static final int ORDER_WORLD = 300;
+
+    public static final int ORDER_ANTI_FARM = 350;
+
+    public static final int ORDER_BOOST = 400;
+
+    public static final int ORDER_PARTY = 500;
+
+    private static final Map<String, Entry> REGISTERED = new ConcurrentHashMap<>();
+
+    // Kept across recompiles so reloading the config does not forget recent kills
+    private static final XpFarmSketch FARM_SKETCH = new XpFarmSketch();
+
+    private static volatile Config<GUIConfig> config;
+
+    private static volatile XpModifierStage[] stages = new XpModifierStage[0];
+
+    private XpModifierPipeline() {}
+
+    /**
+     * Compiles the chain from the current config and the registered stages.
+     *
+     * @param guiConfig The plugin config the core stages read their settings from.
+     */
+    public static synchronized void compile(Config<GUIConfig> guiConfig) {
+        config = guiConfig;
+        var entries = new ArrayList<Entry>();
+        entries.add(new Entry("base", ORDER_BASE, baseStage(guiConfig)));
+        entries.add(new Entry("level_difference", ORDER_LEVEL_DIFFERENCE, levelDifferenceStage(guiConfig)));
+        entries.add(
+            new Entry(
+                "mob_level",
+                ORDER_MOB_LEVEL,
+                (xp, context) -> xp * LevelingCore.mobScalingProfile.xp(context.mobLevel)
+            )
+        );
+        entries.add(new Entry("world", ORDER_WORLD, worldStage()));
+        entries.add(new Entry("anti_farm", ORDER_ANTI_FARM, antiFarmStage(guiConfig)));
+        entries.add(
+            new Entry("boost", ORDER_BOOST, (xp, context) -> xp * XpBoost.multiplier(System.currentTimeMillis()))
+        );
+        entries.add(new Entry("party_split", ORDER_PARTY, partySplitStage(guiConfig)));
+        entries.addAll(REGISTERED.values());
+        entries.sort(Comparator.comparingInt(Entry::order));
+        stages = entries.stream().map(Entry::stage).toArray(XpModifierStage[]::new);
+    }
+
+    /**
+     * Registers a stage, replacing any stage registered under the same id, and recompiles the chain.
+     *
+     * @param id    The unique id of the stage.
+     * @param order Where the stage runs, relative to the {@code ORDER_*} constants of the core stages.
+     * @param stage The stage.
+     */
+    public static void register(String id, int order, XpModifierStage stage) {
+        if (id == null || id.isBlank()) {
+            throw new LevelingCoreException("XP modifier stage id cannot be blank");
+        }
+        if (stage == null) {
+            throw new LevelingCoreException("XP modifier stage cannot be null");
+        }
+        REGISTERED.put(id, new Entry(id, order, stage));
+        recompile();
+    }
+
+    public static void unregister(String id) {
+        if (REGISTERED.remove(id) != null) {
+            recompile();
+        }
+    }
+
+    /**
+     * Evaluates the chain for a kill.
+     *
+     * @param context The kill being evaluated.
+     * @return The XP to award, at least {@code 1}.
+     */
+    public static long evaluate(XpKillContext context) {
+        var compiled = stages;
+        var xp = 0.0;
+        for (var stage : compiled) {
+            xp = stage.apply(xp, context);
+        }
+        return Math.max(1L, Math.round(xp));
+    }
+
+    private static void recompile() {
+        var current = config;
+        if (current != null) {
+            compile(current);
+        }
+    }
+
+    private static XpModifierStage baseStage(Config<GUIConfig> guiConfig) {
+        var healthPercentage = guiConfig.get().getDefaultXPGainPercentage();
+        var useMapping = guiConfig.get().isUseConfigXPMappingsInsteadOfHealthDefaults();
+        return (xp, context) -> {
+            var healthXp = Math.max(1L, (long) (context.mobMaxHealth * healthPercentage));
+            if (!useMapping) {
+                return healthXp;
+            }
+            var mapped = XpRoleTable.xpFor(context.npcRoleIndex);
+            return mapped != XpRoleTable.USE_HEALTH ? mapped : healthXp;
+        };
+    }
+
+    /**
+     * Players within {@code XPLevelWindow} levels of the mob get a bonus that peaks at {@code XPLevelBonusMultiplier}
+     * for an even match and falls off linearly. The curve is precomputed per level difference.
+     */
+    private static XpModifierStage levelDifferenceStage(Config<GUIConfig> guiConfig) {
+        var window = Math.max(0, guiConfig.get().getXPLevelWindow());
+        var maxBonus = guiConfig.get().getXPLevelBonusMultiplier();
+        var curve = new double[window + 1];
+        for (var diff = 0; diff <= window; diff++) {
+            var t = window == 0 ? 1.0 : 1.0 - (diff / (double) window);
+            curve[diff] = 1.0 + (maxBonus - 1.0) * t;
+        }
+        return (xp, context) -> {
+            var diff = Math.abs(context.playerLevel - context.mobLevel);
+            return diff < curve.length ? xp * curve[diff] : xp;
+        };
+    }
+
+    private static XpModifierStage worldStage() {
+        var multipliers = LevelingCore.worldXpMapping;
+        return (xp, context) -> {
+            if (multipliers.isEmpty() || context.worldName == null) {
+                return xp;
+            }
+            // Keys and the context's world name are both lowercased
+            var multiplier = multipliers.get(context.worldName);
+            return multiplier != null ? xp * multiplier : xp;
+        };
+    }
+
+    /**
+     * Past {@code AntiFarmFreeKills} recent kills of the same NPC type, or in the same {@code AntiFarmAreaSize} block
+     * area, each further kill lowers the XP by {@code AntiFarmFalloff} down to {@code AntiFarmMinMultiplier}. Recent
+     * kills are counted in the shared {@link XpFarmSketch} and halve every {@code AntiFarmHalfLifeSeconds}.
+     */
+    private static XpModifierStage antiFarmStage(Config<GUIConfig> guiConfig) {
+        var settings = guiConfig.get();
+        if (!settings.isEnableAntiFarmXP()) {
+            return (xp, context) -> xp;
+        }
+        var freeKills = Math.max(0, settings.getAntiFarmFreeKills());
+        var falloff = Math.max(0.0, settings.getAntiFarmFalloff());
+        var minMultiplier = Math.max(0.0, Math.min(1.0, settings.getAntiFarmMinMultiplier()));
+        var halfLifeMs = Math.max(1, settings.getAntiFarmHalfLifeSeconds()) * 1000L;
+        var areaSize = settings.getAntiFarmAreaSize();
+        return (xp, context) -> {
+            var now = System.currentTimeMillis();
+            var player = context.playerUuid.getMostSignificantBits() ^ context.playerUuid.getLeastSignificantBits();
+            var typeKey = XpFarmSketch.key(player, 1L, context.npcRoleIndex);
+            var kills = FARM_SKETCH.incrementAndEstimate(typeKey, now, halfLifeMs);
+            if (areaSize > 0) {
+                var cellX = (long) Math.floor(context.mobX / areaSize);
+                var cellZ = (long) Math.floor(context.mobZ / areaSize);
+                var area = FARM_SKETCH.incrementAndEstimate(
+                    XpFarmSketch.key(player, 2L | cellX << 2, cellZ),
+                    now,
+                    halfLifeMs
+                );
+                kills = Math.max(kills, area);
+            }
+            if (kills <= freeKills) {
+                return xp;
+            }
+            return xp * Math.max(minMultiplier, 1.0 / (1.0 + falloff * (kills - freeKills)));
+        };
+    }
+
+    private static XpModifierStage partySplitStage(Config<GUIConfig> guiConfig) {
+        // Share modes other than FULL already divide the XP between the members when it is shared
+        var shareMode = PartyXpShareMode.parse(guiConfig.get().getPartyXPShareMode());
+        if (!guiConfig.get().isEnablePartyXPSplit() || shareMode != PartyXpShareMode.FULL) {
+            return (xp, context) -> xp;
+        }
+        return (xp, context) -> {
+            // Without the provider's share compat the killer keeps the XP alone, so it is not split
+            var provider = PartyProviders.get();
+            if (!provider.sharesXp(guiConfig)) {
+                return xp;
+            }
+            return xp / Math.max(1, provider.getPartySize(context.playerUuid));
+        };
+    }
+
+    private record Entry(
+        String id,
+        int order,
+        XpModifierStage stage
+    ) {}
+}
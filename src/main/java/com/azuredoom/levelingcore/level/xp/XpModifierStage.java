@@ -0,0 +1,16 @@
+package com.azuredoom.levelingcore.level.xp;
+
+/**
+ * One step of the {@link XpModifierPipeline}. A stage receives the XP computed by the stages before it and returns
+ * the new amount; it must not allocate, since it runs for every kill.
+ */
+@FunctionalInterface
+public interface XpModifierStage {
+
+    /**
+     * @param xp      The XP computed so far, {@code 0} for the first stage.
+     * @param context The kill being evaluated.
+     * @return The XP after this stage.
+     */
+    double apply(double xp, XpKillContext context);
+}
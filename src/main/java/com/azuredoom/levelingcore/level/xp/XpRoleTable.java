@@ -0,0 +1,75 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import com.hypixel.hytale.server.npc.NPCPlugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+
+/**
+ * The {@code xpmapping.csv} values resolved against the server's NPC role assets into a dense array indexed by role
+ * index, so looking up the XP of a kill is a single array read. Roles without a mapping hold {@link #USE_HEALTH}, and
+ * ids that match no role are reported once when the table is resolved.
+ * <p>
+ * The table is resolved once in the plugin's {@code start}, after every asset has loaded, not on each asset load.
+ * Reloading NPC role assets while the server runs can shift role indexes, after which kills may read another role's
+ * XP or fall back to the health-derived default until the server restarts.
+ */
+public final class XpRoleTable {
+
+    /**
+     * Sentinel for roles that use the health-derived default XP.
+     */
+    public static final int USE_HEALTH = -1;
+
+    private static volatile int[] xpByRole = new int[0];
+
+    private XpRoleTable() {}
+
+    /**
+     * Resolves the XP mapping against the loaded NPC role assets. Called once from the plugin's {@code start}; it is
+     * not re-run when NPC role assets are reloaded.
+     *
+     * @param mapping The XP values keyed by NPC role id, as read from {@code xpmapping.csv}.
+     */
+    public static void resolve(Map<String, Integer> mapping) {
+        var npcPlugin = NPCPlugin.get();
+        var table = new int[0];
+        var unknown = new ArrayList<String>();
+
+        for (var entry : mapping.entrySet()) {
+            var roleIndex = npcPlugin.getIndex(entry.getKey());
+            if (roleIndex < 0) {
+                unknown.add(entry.getKey());
+                continue;
+            }
+            if (roleIndex >= table.length) {
+                var grown = Arrays.copyOf(table, Math.max(roleIndex + 1, table.length * 2));
+                Arrays.fill(grown, table.length, grown.length, USE_HEALTH);
+                table = grown;
+            }
+            table[roleIndex] = Math.max(0, entry.getValue());
+        }
+        xpByRole = table;
+
+        LevelingCore.LOGGER.at(Level.INFO)
+            .log("Resolved XP mapping for " + (mapping.size() - unknown.size()) + " NPC roles");
+        if (!unknown.isEmpty()) {
+            LevelingCore.LOGGER.at(Level.WARNING)
+                .log("XP mapping contains " + unknown.size() + " unknown NPC role ids, they are ignored: " + unknown);
+        }
+    }
+
+    /**
+     * Retrieves the mapped XP of a role, or {@link #USE_HEALTH} if the role has no mapping.
+     *
+     * @param roleIndex The index of the NPC role asset.
+     */
+    public static int xpFor(int roleIndex) {
+        var table = xpByRole;
+        return roleIndex >= 0 && roleIndex < table.length ? table[roleIndex] : USE_HEALTH;
+    }
+}
@@ -0,0 +1,38 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import java.util.Map;
+
+/**
+ * A kind of activity that awards XP besides mob kills, such as breaking blocks. Each source has its own mapping CSV,
+ * loaded by {@link XpSourceMapping}, from the keys the source reports to the XP they are worth. Keys missing from the
+ * mapping award nothing.
+ */
+public final class XpSource {
+
+    private final String id;
+
+    private final Map<String, Integer> mapping;
+
+    public XpSource(String id, Map<String, Integer> mapping) {
+        this.id = id;
+        this.mapping = Map.copyOf(mapping);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the XP a key of this source is worth, or {@code 0} if it is not mapped.
+     *
+     * @param key The key reported by the source, such as a block id.
+     */
+    public int xpFor(String key) {
+        var xp = mapping.get(key);
+        return xp == null ? 0 : xp;
+    }
+
+    public boolean isEmpty() {
+        return mapping.isEmpty();
+    }
+}
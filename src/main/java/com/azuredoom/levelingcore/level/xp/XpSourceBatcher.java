@@ -0,0 +1,109 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.api.LevelingCoreApi;
+import com.azuredoom.levelingcore.ui.hud.XPBarHud;
+
+/**
+ * Collects the XP of {@link XpSource}s in one counter per player and credits it in batches. Adding XP is a single
+ * map merge; once per interval the counters are drained, grouped by world, and each world applies its players' XP
+ * on its own thread through {@code LevelServiceImpl.addXpToMany}, which saves the whole batch at once. Each player's
+ * HUD is refreshed once per batch.
+ */
+public final class XpSourceBatcher {
+
+    /**
+     * XP collected per player together with the world it was last earned in. Both travel in one value, so draining a
+     * player removes the world reference along with the XP and nothing outlives the batch.
+     */
+    private static final Map<UUID, Pending> PENDING = new ConcurrentHashMap<>();
+
+    private static ScheduledExecutorService scheduler;
+
+    private XpSourceBatcher() {}
+
+    /**
+     * Starts crediting the collected XP every {@code intervalMs} milliseconds.
+     */
+    public static synchronized void start(long intervalMs) {
+        if (scheduler != null)
+            return;
+        var interval = Math.max(50L, intervalMs);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "LevelingCore-XpSourceBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(XpSourceBatcher::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the batches and credits what is still collected directly, without HUD updates.
+     */
+    public static synchronized void stop() {
+        if (scheduler == null)
+            return;
+        scheduler.shutdown();
+        scheduler = null;
+        var remaining = drain();
+        if (!remaining.isEmpty()) {
+            LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> {
+                for (var awards : remaining.values()) {
+                    levelService.addXpToMany(awards);
+                }
+            });
+        }
+    }
+
+    static void add(UUID playerUuid, long xp, World world) {
+        PENDING.merge(playerUuid, new Pending(world, xp), (a, b) -> new Pending(b.world(), a.xp() + b.xp()));
+    }
+
+    private static void flush() {
+        try {
+            var batches = drain();
+            for (var batch : batches.entrySet()) {
+                var awards = batch.getValue();
+                batch.getKey().execute(() -> credit(awards));
+            }
+        } catch (Exception e) {
+            LevelingCore.LOGGER.at(Level.WARNING).log("Failed to credit XP source batch: " + e.getMessage());
+        }
+    }
+
+    private static Map<World, Map<UUID, Long>> drain() {
+        var batches = new HashMap<World, Map<UUID, Long>>();
+        for (var uuid : PENDING.keySet()) {
+            // Removing returns the whole sum atomically, later merges start a new counter for the next batch
+            var pending = PENDING.remove(uuid);
+            if (pending == null)
+                continue;
+            batches.computeIfAbsent(pending.world(), key -> new HashMap<>()).put(uuid, pending.xp());
+        }
+        return batches;
+    }
+
+    private static void credit(Map<UUID, Long> awards) {
+        LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> {
+            for (var uuid : levelService.addXpToMany(awards)) {
+                var playerRef = Universe.get().getPlayer(uuid);
+                if (playerRef != null)
+                    XPBarHud.updateHud(playerRef);
+            }
+        });
+    }
+
+    private record Pending(World world, long xp) {}
+}
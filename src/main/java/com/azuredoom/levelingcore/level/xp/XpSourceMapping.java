@@ -0,0 +1,111 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.config.internal.ConfigManager;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+
+/**
+ * Loads the mapping CSV of an {@link XpSource}. The file of a source with id {@code block} is
+ * {@code blockxpmapping.csv}, seeded from {@code defaultblockxpmapping.csv} when the plugin ships one and otherwise
+ * created with only its header. Each row maps a key of the source, such as a block id, to the XP it is worth.
+ */
+public class XpSourceMapping {
+
+    public static final String FILE_SUFFIX = "xpmapping.csv";
+
+    public static final String HEADER = "id,xp";
+
+    private XpSourceMapping() {}
+
+    public static Map<String, Integer> loadOrCreate(Path dataDir, String sourceId) {
+        var fileName = sourceId + FILE_SUFFIX;
+        var resourceDefault = "/default" + fileName;
+        try {
+            Files.createDirectories(dataDir);
+            var configPath = dataDir.resolve(fileName);
+
+            if (Files.notExists(configPath)) {
+                try (InputStream in = ConfigManager.class.getResourceAsStream(resourceDefault)) {
+                    LevelingCore.LOGGER.at(Level.INFO)
+                        .log("Creating default " + sourceId + " XP config at " + configPath);
+                    if (in == null) {
+                        Files.writeString(configPath, HEADER + System.lineSeparator(), StandardCharsets.UTF_8);
+                    } else {
+                        Files.copy(in, configPath, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+            }
+
+            var mapping = readXpCsv(configPath);
+
+            LevelingCore.LOGGER.at(Level.INFO)
+                .log("Loaded " + sourceId + " XP mapping from " + configPath + " " + mapping.size() + " entries)");
+            return mapping;
+
+        } catch (Exception e) {
+            throw new LevelingCoreException("Failed to load " + sourceId + " XP config", e);
+        }
+    }
+
+    private static Map<String, Integer> readXpCsv(Path csvPath) throws Exception {
+        Map<String, Integer> out = new LinkedHashMap<>();
+
+        try (var reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+            String line;
+            var firstNonEmptyLine = true;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty())
+                    continue;
+                if (line.startsWith("#"))
+                    continue;
+
+                if (firstNonEmptyLine) {
+                    firstNonEmptyLine = false;
+                    if (line.equalsIgnoreCase(HEADER)) {
+                        continue;
+                    }
+                }
+
+                var parts = line.split(",", 2);
+                if (parts.length != 2) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping invalid CSV line: " + line);
+                    continue;
+                }
+
+                var id = parts[0].trim();
+                var xpStr = parts[1].trim();
+
+                if (id.isEmpty()) {
+                    LevelingCore.LOGGER.at(Level.WARNING).log("Skipping CSV line with empty id: " + line);
+                    continue;
+                }
+
+                int xp;
+                try {
+                    xp = Integer.parseInt(xpStr);
+                } catch (NumberFormatException nfe) {
+                    LevelingCore.LOGGER.at(Level.WARNING)
+                        .log("Invalid XP value for " + id + ": " + xpStr + " (line: " + line + ")");
+                    continue;
+                }
+
+                if (xp > 0) {
+                    out.put(id, xp);
+                }
+            }
+        }
+
+        return out;
+    }
+}
@@ -0,0 +1,64 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import com.azuredoom.levelingcore.LevelingCore;
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+
+/**
+ * Registry of the {@link XpSource}s besides mob kills. The core registers {@link #BLOCK}; other plugins register their
+ * own ids through {@code LevelingCoreApi.registerXpSource} and report activity with {@link #credit}. Credited XP is
+ * not applied right away but collected by the {@link XpSourceBatcher}, because these activities happen far more often
+ * than kills.
+ */
+public final class XpSources {
+
+    public static final String BLOCK = "block";
+
+    private static final Map<String, XpSource> SOURCES = new ConcurrentHashMap<>();
+
+    private XpSources() {}
+
+    /**
+     * Registers a source and loads its mapping CSV, or retrieves the source if it is already registered.
+     *
+     * @param id The id of the source, also the prefix of its {@code <id>xpmapping.csv} file.
+     */
+    public static XpSource register(String id) {
+        if (id == null || id.isBlank() || !id.matches("[a-z0-9_]+")) {
+            throw new LevelingCoreException("XP source id must be lowercase letters, digits or underscores: " + id);
+        }
+        return SOURCES.computeIfAbsent(id, key -> {
+            var source = new XpSource(key, XpSourceMapping.loadOrCreate(LevelingCore.configPath, key));
+            LevelingCore.LOGGER.at(Level.INFO).log("Registered XP source " + key);
+            return source;
+        });
+    }
+
+    public static XpSource get(String id) {
+        return SOURCES.get(id);
+    }
+
+    /**
+     * Credits a player for one occurrence of an activity. Unknown sources and unmapped keys are ignored.
+     *
+     * @param sourceId   The id of the registered source.
+     * @param key        The key of the activity in the source's mapping, such as a block id.
+     * @param playerUuid The unique identifier of the player.
+     * @param world      The world the player is in, whose thread applies the XP.
+     */
+    public static void credit(String sourceId, String key, UUID playerUuid, World world) {
+        var source = SOURCES.get(sourceId);
+        if (source == null || key == null)
+            return;
+        var xp = source.xpFor(key);
+        if (xp > 0) {
+            XpSourceBatcher.add(playerUuid, xp, world);
+        }
+    }
+}
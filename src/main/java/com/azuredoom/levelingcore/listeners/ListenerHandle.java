@@ -0,0 +1,13 @@
+package com.azuredoom.levelingcore.listeners;
+
+/**
+ * Handle returned when registering {@link PlayerLevelHooks}, used to remove them again.
+ */
+@FunctionalInterface
+public interface ListenerHandle {
+
+    /**
+     * Removes the registration. Does nothing if it was already removed or replaced.
+     */
+    void unregister();
+}
@@ -0,0 +1,13 @@
+package com.azuredoom.levelingcore.listeners;
+
+/**
+ * Level change hooks bound to a single player. Unlike {@link LevelUpListener} and {@link LevelDownListener}, which
+ * see every player's events, hooks are registered under the player's UUID and only invoked for that player, so an
+ * event costs one map lookup no matter how many players are online.
+ */
+public interface PlayerLevelHooks {
+
+    default void onLevelUp(int oldLevel, int newLevel) {}
+
+    default void onLevelDown(int oldLevel, int newLevel) {}
+}
@@ -6,34 +6,66 @@ import java.util.UUID;
  * Represents the level-related data of a player within the leveling system. This includes the player's unique
  * identifier and their experience points (XP). The class provides methods to retrieve and modify the player's XP, with
  * constraints ensuring it remains non-negative.
+ * <p>
+ * Every persisted value is a numbered field: XP, the two ability point counters and one field per {@link PlayerStat}.
+ * Changing a field sets its bit in a dirty mask, so the repository only writes the columns that actually changed.
  */
 public class PlayerLevelData {
 
-    private final UUID playerId;
+    public static final int XP = 0;
 
-    private long xp;
+    public static final int ABILITY_POINTS = 1;
+
+    public static final int USED_ABILITY_POINTS = 2;
 
-    private int str;
+    private static final int FIRST_STAT = 3;
 
-    private int agi;
+    /**
+     * The number of persisted fields.
+     */
+    public static final int FIELD_COUNT = FIRST_STAT + PlayerStat.VALUES.length;
 
-    private int per;
+    private static final long ALL_FIELDS = (1L << FIELD_COUNT) - 1;
 
-    private int vit;
+    private final UUID playerId;
 
-    private int intelligence;
+    private long xp;
 
-    private int con;
+    private final int[] stats = new int[PlayerStat.VALUES.length];
 
     private int abilityPoints;
 
     private int usedAbilityPoints;
 
+    /**
+     * Fields changed since the last save. A new instance starts fully dirty, so its first save writes every column.
+     */
+    private long dirty = ALL_FIELDS;
+
     public PlayerLevelData(UUID playerId) {
         this.playerId = playerId;
         this.xp = 0;
     }
 
+    /**
+     * Retrieves the field number of the given stat.
+     */
+    public static int fieldOf(PlayerStat stat) {
+        return FIRST_STAT + stat.ordinal();
+    }
+
+    /**
+     * Retrieves the {@code player_levels} column of the given field.
+     */
+    public static String columnOf(int field) {
+        return switch (field) {
+            case XP -> "xp";
+            case ABILITY_POINTS -> "ability_points";
+            case USED_ABILITY_POINTS -> "used_ability_points";
+            default -> PlayerStat.VALUES[field - FIRST_STAT].getColumn();
+        };
+    }
+
     /**
      * Retrieves the unique identifier of the player.
      *
@@ -60,55 +92,79 @@ public class PlayerLevelData {
      *           zero.
      */
     public void setXp(long xp) {
-        this.xp = Math.max(0, xp);
+        xp = Math.max(0, xp);
+        if (this.xp != xp) {
+            this.xp = xp;
+            dirty |= 1L << XP;
+        }
+    }
+
+    public int getStat(PlayerStat stat) {
+        return stats[stat.ordinal()];
+    }
+
+    public void setStat(PlayerStat stat, int value) {
+        if (stats[stat.ordinal()] != value) {
+            stats[stat.ordinal()] = value;
+            dirty |= 1L << fieldOf(stat);
+        }
+    }
+
+    /**
+     * Copies the value of every stat into the given array, indexed by {@link PlayerStat} ordinal.
+     *
+     * @param target An array of at least {@code PlayerStat.VALUES.length} entries.
+     */
+    public void copyStats(int[] target) {
+        System.arraycopy(stats, 0, target, 0, stats.length);
     }
 
     public int getStr() {
-        return str;
+        return getStat(PlayerStat.STR);
     }
 
     public void setStr(int str) {
-        this.str = str;
+        setStat(PlayerStat.STR, str);
     }
 
     public int getAgi() {
-        return agi;
+        return getStat(PlayerStat.AGI);
     }
 
     public void setAgi(int agi) {
-        this.agi = agi;
+        setStat(PlayerStat.AGI, agi);
     }
 
     public int getPer() {
-        return per;
+        return getStat(PlayerStat.PER);
     }
 
     public void setPer(int per) {
-        this.per = per;
+        setStat(PlayerStat.PER, per);
     }
 
     public int getVit() {
-        return vit;
+        return getStat(PlayerStat.VIT);
     }
 
     public void setVit(int vit) {
-        this.vit = vit;
+        setStat(PlayerStat.VIT, vit);
     }
 
     public int getIntelligence() {
-        return intelligence;
+        return getStat(PlayerStat.INT);
     }
 
     public void setIntelligence(int intelligence) {
-        this.intelligence = intelligence;
+        setStat(PlayerStat.INT, intelligence);
     }
 
     public int getCon() {
-        return con;
+        return getStat(PlayerStat.CON);
     }
 
     public void setCon(int con) {
-        this.con = con;
+        setStat(PlayerStat.CON, con);
     }
 
     public int getAbilityPoints() {
@@ -116,7 +172,10 @@ public class PlayerLevelData {
     }
 
     public void setAbilityPoints(int abilityPoints) {
-        this.abilityPoints = abilityPoints;
+        if (this.abilityPoints != abilityPoints) {
+            this.abilityPoints = abilityPoints;
+            dirty |= 1L << ABILITY_POINTS;
+        }
     }
 
     public int getUsedAbilityPoints() {
@@ -124,7 +183,58 @@ public class PlayerLevelData {
     }
 
     public void setUsedAbilityPoints(int usedAbilityPoints) {
-        this.usedAbilityPoints = usedAbilityPoints;
+        if (this.usedAbilityPoints != usedAbilityPoints) {
+            this.usedAbilityPoints = usedAbilityPoints;
+            dirty |= 1L << USED_ABILITY_POINTS;
+        }
+    }
+
+    /**
+     * Retrieves the value of the given field, widened to a long.
+     *
+     * @param field One of {@link #XP}, {@link #ABILITY_POINTS}, {@link #USED_ABILITY_POINTS} or a stat field from
+     *              {@link #fieldOf(PlayerStat)}.
+     */
+    public long getField(int field) {
+        return switch (field) {
+            case XP -> xp;
+            case ABILITY_POINTS -> abilityPoints;
+            case USED_ABILITY_POINTS -> usedAbilityPoints;
+            default -> stats[field - FIRST_STAT];
+        };
+    }
+
+    /**
+     * Sets the value of the given field, marking it dirty if it changed.
+     *
+     * @param field The field number, see {@link #getField(int)}.
+     * @param value The new value; values of int fields are narrowed.
+     */
+    public void setField(int field, long value) {
+        switch (field) {
+            case XP -> setXp(value);
+            case ABILITY_POINTS -> setAbilityPoints((int) value);
+            case USED_ABILITY_POINTS -> setUsedAbilityPoints((int) value);
+            default -> setStat(PlayerStat.VALUES[field - FIRST_STAT], (int) value);
+        }
+    }
+
+    /**
+     * Retrieves the bitmask of fields changed since they were last saved, with bit {@code n} standing for field
+     * {@code n}.
+     */
+    public long getDirtyMask() {
+        return dirty;
+    }
+
+    /**
+     * Marks the given fields as saved. Only the given bits are cleared, so a field changed while the save was running
+     * stays dirty.
+     *
+     * @param mask The dirty mask that was written.
+     */
+    public void clearDirty(long mask) {
+        dirty &= ~mask;
     }
 
 }
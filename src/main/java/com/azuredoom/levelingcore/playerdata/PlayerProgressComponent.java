@@ -0,0 +1,58 @@
+package com.azuredoom.levelingcore.playerdata;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nullable;
+
+import com.azuredoom.levelingcore.LevelingCore;
+
+/**
+ * Mirror of a player's {@link PlayerLevelData} attached to the player entity, so combat systems can read the level and
+ * stats of a player straight from the archetype chunk. The component is attached on {@code PlayerReadyEvent} and kept
+ * in sync by {@code LevelServiceImpl} on every mutation; it is never saved, the database stays the source of truth.
+ */
+public final class PlayerProgressComponent implements Component<EntityStore> {
+
+    public int level = 1;
+
+    public long xp;
+
+    /**
+     * Total XP at which the current level starts.
+     */
+    public long levelStartXp;
+
+    /**
+     * Total XP at which the next level starts.
+     */
+    public long nextLevelXp;
+
+    /**
+     * Stat values indexed by {@link PlayerStat} ordinal.
+     */
+    public final int[] stats = new int[PlayerStat.VALUES.length];
+
+    public PlayerProgressComponent() {}
+
+    public static ComponentType<EntityStore, PlayerProgressComponent> getComponentType() {
+        return LevelingCore.playerProgressComponentType;
+    }
+
+    public int getStat(PlayerStat stat) {
+        return stats[stat.ordinal()];
+    }
+
+    @Nullable
+    @Override
+    public Component<EntityStore> clone() {
+        var copy = new PlayerProgressComponent();
+        copy.level = level;
+        copy.xp = xp;
+        copy.levelStartXp = levelStartXp;
+        copy.nextLevelXp = nextLevelXp;
+        System.arraycopy(stats, 0, copy.stats, 0, stats.length);
+        return copy;
+    }
+}
@@ -0,0 +1,29 @@
+package com.azuredoom.levelingcore.playerdata;
+
+/**
+ * The stats a player spends ability points on. Each stat is stored in its own column of the {@code player_levels}
+ * table, which is added on startup if missing, so a new stat only needs a new constant here.
+ */
+public enum PlayerStat {
+    STR("str"),
+    AGI("agi"),
+    PER("per"),
+    VIT("vit"),
+    INT("intelligence"),
+    CON("con");
+
+    public static final PlayerStat[] VALUES = values();
+
+    private final String column;
+
+    PlayerStat(String column) {
+        this.column = column;
+    }
+
+    /**
+     * Retrieves the name of the {@code player_levels} column holding this stat.
+     */
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,56 @@
+package com.azuredoom.levelingcore.systems;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+
+import javax.annotation.Nonnull;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.xp.XpSources;
+
+/**
+ * Credits players for the blocks they break, using the {@code block} XP source and its {@code blockxpmapping.csv}. The
+ * XP is collected and applied in batches, never on the break itself.
+ */
+public class BlockBreakXPSystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
+
+    private final Config<GUIConfig> config;
+
+    public BlockBreakXPSystem(Config<GUIConfig> config) {
+        super(BreakBlockEvent.class);
+        this.config = config;
+    }
+
+    @Override
+    public void handle(
+        int index,
+        @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+        @Nonnull Store<EntityStore> store,
+        @Nonnull CommandBuffer<EntityStore> commandBuffer,
+        @Nonnull BreakBlockEvent event
+    ) {
+        if (event.isCancelled() || !config.get().isEnableBlockBreakXP())
+            return;
+        var blockType = event.getBlockType();
+        if (blockType == null)
+            return;
+        var playerRef = archetypeChunk.getComponent(index, PlayerRef.getComponentType());
+        if (playerRef == null)
+            return;
+
+        XpSources.credit(XpSources.BLOCK, blockType.getId(), playerRef.getUuid(), store.getExternalData().getWorld());
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+}
@@ -0,0 +1,94 @@
+package com.azuredoom.levelingcore.systems;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.SystemGroup;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.modules.entity.AllLegacyLivingEntityTypesQuery;
+import com.hypixel.hytale.server.core.modules.entity.EntityModule;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.EntityStatType;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.level.xp.DamageContribution;
+
+/**
+ * Records the damage players deal to mobs for {@code EnableDamageContributionXP}. It runs in the inspect group, after
+ * every filter such as armor or the stat multipliers of {@link MobDamageFilter}, so shares follow the damage actually
+ * dealt rather than the damage before mitigation.
+ */
+public class DamageContributionSystem extends DamageEventSystem {
+
+    private final Config<GUIConfig> config;
+
+    public DamageContributionSystem(Config<GUIConfig> config) {
+        this.config = config;
+    }
+
+    @Override
+    public void handle(
+        int index,
+        @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+        @Nonnull Store<EntityStore> store,
+        @Nonnull CommandBuffer<EntityStore> commandBuffer,
+        @Nonnull Damage damage
+    ) {
+        if (!config.get().isEnableDamageContributionXP() || damage.isCancelled())
+            return;
+        if (archetypeChunk.getArchetype().contains(EntityModule.get().getPlayerComponentType()))
+            return;
+        var amount = damage.getAmount();
+        if (amount <= 0F)
+            return;
+        if (!(damage.getSource() instanceof Damage.EntitySource entitySource))
+            return;
+        var attackerRef = entitySource.getRef();
+        if (attackerRef == null || !attackerRef.isValid())
+            return;
+        if (store.getComponent(attackerRef, PlayerRef.getComponentType()) == null)
+            return;
+
+        var data = archetypeChunk.getComponent(index, MobLevelComponent.getComponentType());
+        if (data == null)
+            return;
+        if (data.damageContribution == null)
+            data.damageContribution = new DamageContribution();
+        var contribution = data.damageContribution;
+
+        var statMap = archetypeChunk.getComponent(index, EntityStatMap.getComponentType());
+        if (statMap != null) {
+            var healthStat = statMap.get(EntityStatType.getAssetMap().getIndex("Health"));
+            if (healthStat != null) {
+                // The hit is already applied here; a lethal hit only counts the health the mob had left
+                var health = healthStat.get();
+                if (health <= 0F)
+                    amount = Math.min(amount, contribution.lastHealth(healthStat.getMax()));
+                contribution.setLastHealth(health);
+            }
+        }
+        contribution.record(attackerRef, amount);
+    }
+
+    @Nullable
+    @Override
+    public SystemGroup<EntityStore> getGroup() {
+        return DamageModule.get().getInspectDamageGroup();
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return AllLegacyLivingEntityTypesQuery.INSTANCE;
+    }
+}
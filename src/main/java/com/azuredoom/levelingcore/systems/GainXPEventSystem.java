@@ -1,17 +1,17 @@
 package com.azuredoom.levelingcore.systems;
 
-import com.hypixel.hytale.common.plugin.PluginIdentifier;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
 import com.hypixel.hytale.server.core.modules.entity.damage.DeathSystems;
 import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
 import com.hypixel.hytale.server.core.modules.entitystats.asset.EntityStatType;
-import com.hypixel.hytale.server.core.plugin.PluginManager;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
@@ -20,24 +20,24 @@ import com.hypixel.hytale.server.npc.entities.NPCEntity;
 
 import javax.annotation.Nonnull;
 
-import com.azuredoom.levelingcore.LevelingCore;
 import com.azuredoom.levelingcore.api.LevelingCoreApi;
-import com.azuredoom.levelingcore.compat.PartyPluginCompat;
-import com.azuredoom.levelingcore.compat.PartyProCompat;
-import com.azuredoom.levelingcore.compat.SimplePartyCompat;
 import com.azuredoom.levelingcore.config.GUIConfig;
-import com.azuredoom.levelingcore.lang.CommandLang;
-import com.azuredoom.levelingcore.level.mobs.PersistedMobLevel;
-import com.azuredoom.levelingcore.ui.hud.XPBarHud;
-import com.azuredoom.levelingcore.utils.NotificationsUtil;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.level.xp.DamageContribution;
+import com.azuredoom.levelingcore.level.xp.XpAwardBuffer;
+import com.azuredoom.levelingcore.level.xp.XpKillContext;
+import com.azuredoom.levelingcore.level.xp.XpModifierPipeline;
+import com.azuredoom.levelingcore.playerdata.PlayerProgressComponent;
 
 /**
  * The {@code GainXPEventSystem} class handles the process of awarding experience points (XP) to players based on
  * specific actions or events in the game world, particularly when an entity dies. This system is invoked upon the
  * addition of a {@code DeathComponent} to an entity.
  * <ul>
- * <li>XP gain is calculated based on the maximum health of the defeated entity and a configurable percentage provided
- * by the {@code GUIConfig}.</li>
+ * <li>XP gain is calculated by the {@code XpModifierPipeline}, starting from the maximum health of the defeated entity
+ * and a configurable percentage provided by the {@code GUIConfig}.</li>
+ * <li>With {@code EnableDamageContributionXP}, every player who damaged the entity receives XP proportional to the
+ * damage they dealt; otherwise all XP goes to the player landing the killing blow.</li>
  * <li>The system ensures that XP is awarded only if the default XP gain system is enabled in the configuration.</li>
  * <li>Supports interaction with the leveling service to update player levels and send appropriate messages upon
  * leveling up.</li>
@@ -47,6 +47,9 @@ import com.azuredoom.levelingcore.utils.NotificationsUtil;
 @SuppressWarnings("removal")
 public class GainXPEventSystem extends DeathSystems.OnDeathSystem {
 
+    // Reused for every kill evaluated on a thread, the pipeline never allocates
+    private static final ThreadLocal<XpKillContext> KILL_CONTEXT = ThreadLocal.withInitial(XpKillContext::new);
+
     private final Config<GUIConfig> config;
 
     public GainXPEventSystem(Config<GUIConfig> config) {
@@ -77,94 +80,94 @@ public class GainXPEventSystem extends DeathSystems.OnDeathSystem {
             return;
         }
 
-        if (deathInfo.getSource() instanceof Damage.EntitySource entitySource) {
-            var attackerRef = entitySource.getRef();
-            if (attackerRef.isValid()) {
-                var player = store.getComponent(attackerRef, Player.getComponentType());
-                if (player == null)
-                    return;
-                var playerRef = Universe.get().getPlayer(player.getUuid());
-                var statMap = store.getComponent(ref, EntityStatMap.getComponentType());
-                if (statMap == null)
-                    return;
-                var entity = store.getComponent(ref, NPCEntity.getComponentType());
-                if (entity == null)
-                    return;
-                var xpMap = LevelingCore.xpMapping;
-                var healthIndex = EntityStatType.getAssetMap().getIndex("Health");
-                var healthStat = statMap.get(healthIndex);
-                if (healthStat == null)
-                    return;
-                var maxHealth = healthStat.getMax();
-                var playerLevel = LevelingCoreApi.getLevelServiceIfPresent()
-                    .map(levelService -> levelService.getLevel(player.getUuid()))
-                    .orElse(0);
-                var mobLevel = LevelingCore.mobLevelPersistence.get(entity.getUuid())
-                    .map(PersistedMobLevel::spawnLevel)
-                    .orElse(1);
-                var xpAmountHealth = Math.max(1, (long) (maxHealth * this.config.get().getDefaultXPGainPercentage()));
-                var getXPMapping = xpMap.getOrDefault(entity.getNPCTypeId(), Math.toIntExact(xpAmountHealth));
-                var xpAmount = config.get().isUseConfigXPMappingsInsteadOfHealthDefaults()
-                    ? getXPMapping
-                    : xpAmountHealth;
-                final var levelWindow = 5;
-                final var maxBonusMult = 1.25;
-
-                int diff = Math.abs(playerLevel - mobLevel);
-                if (diff <= levelWindow) {
-                    var t = 1.0 - (diff / (double) levelWindow);
-                    var mult = 1.0 + (maxBonusMult - 1.0) * t;
-                    xpAmount = Math.max(1L, Math.round(xpAmount * mult));
+        var statMap = store.getComponent(ref, EntityStatMap.getComponentType());
+        if (statMap == null)
+            return;
+        var entity = store.getComponent(ref, NPCEntity.getComponentType());
+        if (entity == null)
+            return;
+        var healthIndex = EntityStatType.getAssetMap().getIndex("Health");
+        var healthStat = statMap.get(healthIndex);
+        if (healthStat == null)
+            return;
+        var maxHealth = healthStat.getMax();
+        var mobLevelData = store.getComponent(ref, MobLevelComponent.getComponentType());
+        var mobLevel = mobLevelData == null ? 1 : mobLevelData.level;
+        var transform = store.getComponent(ref, TransformComponent.getComponentType());
+        Vector3d position = transform == null ? null : transform.getPosition();
+
+        DamageContribution contribution = mobLevelData == null ? null : mobLevelData.damageContribution;
+        if (contribution != null && contribution.size() > 0 && config.get().isEnableDamageContributionXP()) {
+            // Everyone who hurt the mob gets XP for the share of the damage they dealt, renormalized over the
+            // contributors still present so the share of a player who left or died is not lost
+            var validShare = 0F;
+            for (var slot = 0; slot < contribution.size(); slot++) {
+                if (isPresentPlayer(contribution.player(slot), store))
+                    validShare += contribution.share(slot);
+            }
+            if (validShare > 0F) {
+                for (var slot = 0; slot < contribution.size(); slot++) {
+                    var player = contribution.player(slot);
+                    if (isPresentPlayer(player, store)) {
+                        var share = contribution.share(slot) / validShare;
+                        awardXp(player, share, entity, maxHealth, mobLevel, position, store);
+                    }
                 }
-                long finalXpAmount = xpAmount;
-                store.getExternalData().getWorld().execute(() -> {
-                    LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> {
-                        var levelBefore = levelService.getLevel(player.getUuid());
-                        // Checks that the SimpleParty plugin is installed
-                        if (
-                            PluginManager.get()
-                                .getPlugin(new PluginIdentifier("net.justmadlime", "SimpleParty")) != null
-                        ) {
-                            SimplePartyCompat.onXPGain(
-                                finalXpAmount,
-                                player.getUuid(),
-                                levelService,
-                                config,
-                                playerRef
-                            );
-                        } else if (
-                            PluginManager.get()
-                                .getPlugin(new PluginIdentifier("tsumori", "partypro")) != null
-                        ) {
-                            PartyProCompat.onXPGain(finalXpAmount, player.getUuid(), levelService, config, playerRef);
-                        } else if (
-                            PluginManager.get()
-                                .getPlugin(new PluginIdentifier("com.carsonk", "Party Plugin")) != null
-                        ) {
-                            PartyPluginCompat.onXPGain(
-                                finalXpAmount,
-                                player.getUuid(),
-                                levelService,
-                                config,
-                                playerRef
-                            );
-                        } else {
-                            // Fallback to default XP gain if SimpleParty is not installed
-                            if (!config.get().isDisableXPGainNotification())
-                                NotificationsUtil.sendNotification(playerRef, "Gained " + finalXpAmount + " XP");
-                            levelService.addXp(player.getUuid(), finalXpAmount);
-                            XPBarHud.updateHud(playerRef);
-                        }
-                        LevelingCore.mobLevelRegistry.remove(entity.getUuid());
-                        LevelingCore.mobLevelPersistence.remove(entity.getUuid());
-                        var levelAfter = levelService.getLevel(player.getUuid());
-                        if (levelAfter > levelBefore) {
-                            if (config.get().isEnableLevelChatMsgs())
-                                player.sendMessage(CommandLang.LEVEL_UP.param("level", levelAfter));
-                        }
-                    });
-                });
+                contribution.clear();
+                return;
             }
+            contribution.clear();
         }
+
+        if (deathInfo.getSource() instanceof Damage.EntitySource entitySource) {
+            awardXp(entitySource.getRef(), 1F, entity, maxHealth, mobLevel, position, store);
+        }
+    }
+
+    private static boolean isPresentPlayer(Ref<EntityStore> ref, Store<EntityStore> store) {
+        return ref != null && ref.isValid() && store.getComponent(ref, Player.getComponentType()) != null;
+    }
+
+    /**
+     * Evaluates the kill XP for one player and queues the given share of it in the world's {@link XpAwardBuffer}.
+     */
+    private void awardXp(
+        Ref<EntityStore> attackerRef,
+        float share,
+        NPCEntity entity,
+        float maxHealth,
+        int mobLevel,
+        Vector3d position,
+        Store<EntityStore> store
+    ) {
+        if (attackerRef == null || !attackerRef.isValid())
+            return;
+        var player = store.getComponent(attackerRef, Player.getComponentType());
+        if (player == null)
+            return;
+        var playerRef = Universe.get().getPlayer(player.getUuid());
+        var progress = store.getComponent(attackerRef, PlayerProgressComponent.getComponentType());
+        int playerLevel = progress != null
+            ? progress.level
+            : LevelingCoreApi.getLevelServiceIfPresent()
+                .map(levelService -> levelService.getLevel(player.getUuid()))
+                .orElse(0);
+        var context = KILL_CONTEXT.get()
+            .set(
+                player.getUuid(),
+                playerLevel,
+                mobLevel,
+                entity.getNPCTypeId(),
+                entity.getRoleIndex(),
+                maxHealth,
+                store.getExternalData().getWorld().getName()
+            )
+            .at(position == null ? 0.0 : position.getX(), position == null ? 0.0 : position.getZ());
+        var xpAmount = XpModifierPipeline.evaluate(context);
+        if (share < 1F)
+            xpAmount = Math.max(1L, Math.round(xpAmount * (double) share));
+        // Kills of the same tick are applied together once the tick is done
+        store.getResource(XpAwardBuffer.getResourceType())
+            .add(player, playerRef, xpAmount, config, store);
     }
 }
@@ -24,6 +24,9 @@ import com.azuredoom.levelingcore.LevelingCore;
 import com.azuredoom.levelingcore.api.LevelingCoreApi;
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.lang.CommandLang;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.playerdata.PlayerProgressComponent;
+import com.azuredoom.levelingcore.playerdata.PlayerStat;
 
 public class MobDamageFilter extends DamageEventSystem {
 
@@ -63,6 +66,8 @@ public class MobDamageFilter extends DamageEventSystem {
             return;
 
         var levelService = levelServiceOpt.get();
+        // Attached on PlayerReadyEvent, the service is only queried for players that have not finished joining
+        var progress = store.getComponent(attackerRef, PlayerProgressComponent.getComponentType());
 
         var incoming = damage.getAmount();
         if (incoming <= 0f)
@@ -72,7 +77,7 @@ public class MobDamageFilter extends DamageEventSystem {
             if (playerAttacker == null)
                 return;
 
-            var level = levelService.getLevel(playerRefAttacker.getUuid());
+            var level = progress != null ? progress.level : levelService.getLevel(playerRefAttacker.getUuid());
             var itemHand = playerAttacker.getInventory().getItemInHand();
             if (itemHand == null)
                 return;
@@ -99,12 +104,16 @@ public class MobDamageFilter extends DamageEventSystem {
         var isProjectile = causeIdLower.contains("projectile") || causeIdLower.contains("arrow");
 
         if (isProjectile) {
-            var per = levelService.getPer(playerRefAttacker.getUuid());
+            var per = progress != null
+                ? progress.getStat(PlayerStat.PER)
+                : levelService.getPer(playerRefAttacker.getUuid());
             damage.setAmount(
                 Math.round((float) (damage.getAmount() * (1.0 + per * config.get().getPerStatMultiplier())))
             );
         } else {
-            var str = levelService.getStr(playerRefAttacker.getUuid());
+            var str = progress != null
+                ? progress.getStat(PlayerStat.STR)
+                : levelService.getStr(playerRefAttacker.getUuid());
             damage.setAmount(
                 Math.round((float) (damage.getAmount() * (1.0 + str * config.get().getStrStatMultiplier())))
             );
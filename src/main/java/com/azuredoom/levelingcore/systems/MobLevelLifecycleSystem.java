@@ -0,0 +1,103 @@
+package com.azuredoom.levelingcore.systems;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+
+import javax.annotation.Nonnull;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.level.mobs.MobLevelWorldContext;
+import com.azuredoom.levelingcore.utils.MobLevelingUtil;
+
+/**
+ * Attaches a {@link MobLevelComponent} to every NPC when it enters its store. A freshly spawned mob gets its spawn
+ * level computed once, while a mob loaded from a saved chunk keeps the component stored with it. Either way its current
+ * level is set and scaling is applied before its first frame, so the ticking system and the damage filters only ever
+ * read existing state; a loaded mob keeps the health it was saved with. Mobs spawning together join a
+ * {@link com.azuredoom.levelingcore.level.mobs.MobPack} and share its level. The component leaves the store with its
+ * entity, so only pack membership is released on removal.
+ */
+public class MobLevelLifecycleSystem extends RefSystem<EntityStore> {
+
+    private final Config<GUIConfig> config;
+
+    public MobLevelLifecycleSystem(Config<GUIConfig> config) {
+        this.config = config;
+    }
+
+    @Override
+    public void onEntityAdded(
+        @Nonnull Ref<EntityStore> ref,
+        @Nonnull AddReason reason,
+        @Nonnull Store<EntityStore> store,
+        @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        var npc = store.getComponent(ref, NPCEntity.getComponentType());
+        var transform = store.getComponent(ref, TransformComponent.getComponentType());
+        if (npc == null || transform == null)
+            return;
+
+        var data = store.getComponent(ref, MobLevelComponent.getComponentType());
+        // lastAppliedLevel is not saved, so a loaded mob is rescaled here and must keep the health it was saved with
+        var loaded = data != null && reason != AddReason.SPAWN;
+        if (data == null) {
+            data = new MobLevelComponent(MobLevelingUtil.computeSpawnLevel(npc));
+            commandBuffer.addComponent(ref, MobLevelComponent.getComponentType(), data);
+        }
+
+        if (!data.locked) {
+            var now = System.currentTimeMillis();
+            var context = store.getResource(MobLevelWorldContext.getResourceType());
+            context.refresh(config, now);
+            if (reason == AddReason.SPAWN && config.get().isEnableMobPackLevels()) {
+                // Mobs spawning together share one level, only the first member computes it
+                var position = transform.getPosition();
+                var pack = context.getPacks().join(position.getX(), position.getZ(), now);
+                if (pack.mode == null) {
+                    MobLevelingUtil.recomputePackLevel(context, pack, data, npc, transform, store, now);
+                }
+                data.packId = pack.id;
+                data.packOffset = MobLevelingUtil.computePackOffset(npc, config.get().getMobPackLevelVariance());
+                MobLevelingUtil.applyPackLevel(context, pack, data);
+            } else {
+                MobLevelingUtil.recomputeLevel(context, data, npc, transform, store, now);
+            }
+        }
+
+        var stats = store.getComponent(ref, EntityStatMap.getComponentType());
+        if (stats != null && data.level != data.lastAppliedLevel) {
+            MobLevelingUtil.applyMobScaling(config, stats, data.level, !loaded);
+            data.lastAppliedLevel = data.level;
+        }
+    }
+
+    @Override
+    public void onEntityRemove(
+        @Nonnull Ref<EntityStore> ref,
+        @Nonnull RemoveReason reason,
+        @Nonnull Store<EntityStore> store,
+        @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        var data = store.getComponent(ref, MobLevelComponent.getComponentType());
+        if (data != null && data.packId != 0L) {
+            store.getResource(MobLevelWorldContext.getResourceType()).getPacks().leave(data.packId);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return NPCEntity.getComponentType();
+    }
+}
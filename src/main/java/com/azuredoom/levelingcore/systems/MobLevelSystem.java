@@ -7,7 +7,7 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.util.Config;
@@ -17,34 +17,34 @@ import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
 import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
 
-import java.util.Locale;
-
-import com.azuredoom.levelingcore.LevelingCore;
 import com.azuredoom.levelingcore.config.GUIConfig;
-import com.azuredoom.levelingcore.config.internal.ConfigManager;
-import com.azuredoom.levelingcore.level.formulas.loader.LevelTableLoader;
+import com.azuredoom.levelingcore.level.mobs.LevelMode;
+import com.azuredoom.levelingcore.level.mobs.LevelModeInput;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.level.mobs.MobLevelWorldContext;
 import com.azuredoom.levelingcore.utils.MobLevelingUtil;
+import com.azuredoom.levelingcore.utils.MobNameplateUtil;
 
 @SuppressWarnings("removal")
 public class MobLevelSystem extends EntityTickingSystem<EntityStore> {
 
-    // Cache to prevent Disk I/O every tick
-    private static volatile int cachedMaxLevel = -1;
-    private static volatile long lastCacheUpdate = 0;
-    
-    // Global throttling for save operations
-    private static volatile long lastSaveTime = 0;
+    // Position-driven modes recompute once the mob moved this far (squared, in blocks)
+    private static final double MOVE_RECALC_DISTANCE_SQ = 8.0 * 8.0;
 
     private Config<GUIConfig> config;
     
     // Correct Generic Types
     private final ComponentType<EntityStore, NPCEntity> npcType;
     private final ComponentType<EntityStore, TransformComponent> transformType;
+    private final ComponentType<EntityStore, EntityStatMap> statsType;
+    private final ComponentType<EntityStore, MobLevelComponent> mobLevelType;
 
     public MobLevelSystem(Config<GUIConfig> config) {
         this.config = config;
         this.npcType = NPCEntity.getComponentType();
         this.transformType = TransformComponent.getComponentType();
+        this.statsType = EntityStatMap.getComponentType();
+        this.mobLevelType = MobLevelComponent.getComponentType();
     }
 
     @Override
@@ -55,97 +55,114 @@ public class MobLevelSystem extends EntityTickingSystem<EntityStore> {
         @NonNullDecl Store<EntityStore> store,
         @NonNullDecl CommandBuffer<EntityStore> commandBuffer
     ) {
-        // 1. Global Periodic Save (10s)
-        if (index == 0) {
-            long now = System.currentTimeMillis();
-            if (now - lastSaveTime > 10000) {
-                lastSaveTime = now;
-                var world = store.getExternalData().getWorld();
-                if (world != null) {
-                    world.execute(LevelingCore.mobLevelPersistence::save);
-                }
-            }
-        }
-
-        // 2. Retrieve Components
+        // 1. Retrieve Components straight from the archetype chunk.
         // Because getQuery() filters for us, we know these components exist.
-        final var holder = EntityUtils.toHolder(index, archetypeChunk);
-        
-        // We can safely get these without null checks because of the Query
-        final var npc = holder.getComponent(this.npcType);
-        final var transform = holder.getComponent(this.transformType);
-        // ANIMATION FIX: Fetch Health from EntityStatMap to avoid "Snap Back" glitch
-        var stats = holder.getComponent(EntityStatMap.getComponentType());
-        if (stats != null) {
-            var healthValue = stats.get(DefaultEntityStatTypes.getHealth());
-            if (healthValue != null && healthValue.get() <= 0) {
-                return;
-            }
-        }
-        // 3. Logic Throttle (2s per mob)
-        final var entityId = npc.getUuid();
-        var data = LevelingCore.mobLevelRegistry.getOrCreateWithPersistence(
-            entityId,
-            () -> MobLevelingUtil.computeSpawnLevel(npc),
-            0, 
-            LevelingCore.mobLevelPersistence
-        );
-
-        if (data.locked) return;
-
-        long nowMs = System.currentTimeMillis();
-        if (nowMs - data.lastRecalcTick < 2000) {
+        final var npc = archetypeChunk.getComponent(index, this.npcType);
+        final var transform = archetypeChunk.getComponent(index, this.transformType);
+        final var stats = archetypeChunk.getComponent(index, this.statsType);
+        final var data = archetypeChunk.getComponent(index, this.mobLevelType);
+        // ANIMATION FIX: Read Health from EntityStatMap to avoid "Snap Back" glitch
+        var healthValue = stats.get(DefaultEntityStatTypes.getHealth());
+        if (healthValue != null && healthValue.get() <= 0) {
             return;
         }
+        // 2. Level state of this mob, attached at spawn by MobLevelLifecycleSystem
+        long currentTime = System.currentTimeMillis();
+        final var context = store.getResource(MobLevelWorldContext.getResourceType());
+        context.refresh(config, currentTime);
+        if (!data.locked) {
+            updateLevel(context, data, npc, transform, stats, store, currentTime);
+        }
+        // Nameplates only change when the applied level did and a player is in view, refreshed after this tick's
+        // rescale so they never show the previous level
+        MobNameplateUtil.refresh(
+            config,
+            context,
+            data,
+            npc,
+            transform,
+            index,
+            archetypeChunk,
+            store,
+            commandBuffer,
+            currentTime
+        );
+    }
 
-        // 4. Execution logic on the World Thread
-        store.getExternalData().getWorld().execute(() -> {
-            long currentTime = System.currentTimeMillis();
-            
-            // Cache Timer (1s)
-            if (currentTime - lastCacheUpdate > 1000 || cachedMaxLevel == -1) {
-                updateMaxLevelCache();
-                lastCacheUpdate = currentTime;
+    private void updateLevel(
+        MobLevelWorldContext context,
+        MobLevelComponent data,
+        NPCEntity npc,
+        TransformComponent transform,
+        EntityStatMap stats,
+        Store<EntityStore> store,
+        long currentTime
+    ) {
+        // 3. Schedule by declared inputs: static modes run once, dynamic ones only when an input may have changed.
+        // Pack members share the schedule and level of their pack, so a pack is computed once for all of them.
+        final var mode = context.getMode();
+        final var position = transform.getPosition();
+        final var pack = data.packId != 0L ? context.getPacks().get(data.packId) : null;
+        if (pack != null) {
+            if (
+                isRecalcDue(
+                    mode,
+                    pack.mode,
+                    pack.lastRecalcTick,
+                    pack.lastRecalcX,
+                    pack.lastRecalcZ,
+                    position,
+                    currentTime
+                )
+            ) {
+                MobLevelingUtil.recomputePackLevel(context, pack, data, npc, transform, store, currentTime);
             }
-
-            // Calculate new level
-            var newLevel = Math.max(
-                1,
-                Math.min(cachedMaxLevel, MobLevelingUtil.computeDynamicLevel(config, npc, transform, store))
-            );
-
-            if (newLevel != data.level) {
-                data.level = newLevel;
+            MobLevelingUtil.applyPackLevel(context, pack, data);
+        } else {
+            if (
+                !isRecalcDue(
+                    mode,
+                    data.mode,
+                    data.lastRecalcTick,
+                    data.lastRecalcX,
+                    data.lastRecalcZ,
+                    position,
+                    currentTime
+                )
+            ) {
+                return;
             }
-            data.lastRecalcTick = currentTime;
+            // Calculate new level, this system already runs on the world thread
+            MobLevelingUtil.recomputeLevel(context, data, npc, transform, store, currentTime);
+        }
 
-            if (data.level != data.lastAppliedLevel) {
-                MobLevelingUtil.applyMobScaling(config, npc, data.level, store);
-                data.lastAppliedLevel = data.level;
-            }
-        });
+        if (data.level != data.lastAppliedLevel) {
+            MobLevelingUtil.applyMobScaling(config, stats, data.level);
+            data.lastAppliedLevel = data.level;
+        }
     }
 
-    private synchronized void updateMaxLevelCache() {
-        try {
-            var internalConfig = ConfigManager.loadOrCreate(LevelingCore.configPath);
-            var type = internalConfig.formula.type.trim().toUpperCase(Locale.ROOT);
-            
-            if (type.equals("LINEAR")) {
-                cachedMaxLevel = internalConfig.formula.linear.maxLevel;
-            } else if (type.equals("TABLE")) {
-                var tableFormula = LevelTableLoader.loadOrCreateFromDataDir(
-                    internalConfig.formula.table.file
-                );
-                cachedMaxLevel = Math.max(1, tableFormula.getMaxLevel());
-            } else if (type.equals("CUSTOM")) {
-                cachedMaxLevel = internalConfig.formula.custom.maxLevel;
-            } else {
-                cachedMaxLevel = internalConfig.formula.exponential.maxLevel;
-            }
-        } catch (Exception e) {
-            if (cachedMaxLevel == -1) cachedMaxLevel = 100;
+    private static boolean isRecalcDue(
+        LevelMode mode,
+        LevelMode lastMode,
+        long lastRecalcTick,
+        double lastRecalcX,
+        double lastRecalcZ,
+        Vector3d position,
+        long currentTime
+    ) {
+        if (lastMode != mode) {
+            return true;
+        }
+        if (mode.isStatic()) {
+            return false;
+        }
+        if (mode.getInputs().contains(LevelModeInput.NEARBY_PLAYERS)) {
+            return currentTime - lastRecalcTick >= 2000;
         }
+        var dx = position.getX() - lastRecalcX;
+        var dz = position.getZ() - lastRecalcZ;
+        return dx * dx + dz * dz >= MOVE_RECALC_DISTANCE_SQ;
     }
 
     @NullableDecl
@@ -154,6 +171,6 @@ public class MobLevelSystem extends EntityTickingSystem<EntityStore> {
         // PERFORMANCE FIX:
         // Using Archetype.of(...) creates a filter that matches ONLY entities with these components.
         // This prevents the system from running on Items, Arrows, and Particles.
-        return Archetype.of(this.npcType, this.transformType);
+        return Archetype.of(this.npcType, this.transformType, this.statsType, this.mobLevelType);
     }
 }
@@ -22,7 +22,9 @@ import javax.annotation.Nullable;
 import com.azuredoom.levelingcore.LevelingCore;
 import com.azuredoom.levelingcore.api.LevelingCoreApi;
 import com.azuredoom.levelingcore.config.GUIConfig;
-import com.azuredoom.levelingcore.utils.MobLevelingUtil;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.playerdata.PlayerProgressComponent;
+import com.azuredoom.levelingcore.playerdata.PlayerStat;
 
 public class PlayerDamageFilter extends DamageEventSystem {
 
@@ -75,21 +77,22 @@ public class PlayerDamageFilter extends DamageEventSystem {
         var causeIdLower = causeId == null ? "" : causeId.toLowerCase();
         var isProjectile = causeIdLower.contains("projectile") || causeIdLower.contains("arrow");
 
-        var mobLevelData = LevelingCore.mobLevelRegistry.getOrCreate(
-            npcAttacker.getUuid(),
-            () -> MobLevelingUtil.computeSpawnLevel(npcAttacker)
-        );
-        var mobLevel = mobLevelData.level;
+        // Level state is attached when the mob is added to the store, fall back to 1 for mobs outside that lifecycle
+        var mobLevelData = store.getComponent(attackerRef, MobLevelComponent.getComponentType());
+        var mobLevel = mobLevelData == null ? 1 : mobLevelData.level;
         var meleeMulti = config.get().getMobDamageMultiplier();
         var projectileMulti = config.get().getMobRangeDamageMultiplier();
 
-        var con = levelService.getCon(victimPlayerRef.getUuid());
+        var progress = archetypeChunk.getComponent(index, PlayerProgressComponent.getComponentType());
+        var con = progress != null ? progress.getStat(PlayerStat.CON) : levelService.getCon(victimPlayerRef.getUuid());
         var mult = conDamageMultiplier(con);
 
+        var levelFactor = LevelingCore.mobScalingProfile.damage(mobLevel);
+
         if (isProjectile) {
-            damage.setAmount(incoming * mult * projectileMulti * mobLevel);
+            damage.setAmount(incoming * mult * projectileMulti * levelFactor);
         } else {
-            damage.setAmount(incoming * mult * meleeMulti * mobLevel);
+            damage.setAmount(incoming * mult * meleeMulti * levelFactor);
         }
     }
 
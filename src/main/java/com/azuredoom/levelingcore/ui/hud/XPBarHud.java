@@ -1,9 +1,7 @@
 package com.azuredoom.levelingcore.ui.hud;
 
-import com.hypixel.hytale.common.plugin.PluginIdentifier;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.entity.entities.player.hud.CustomUIHud;
-import com.hypixel.hytale.server.core.plugin.PluginManager;
 import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.util.Config;
@@ -11,7 +9,7 @@ import org.checkerframework.checker.nullness.compatqual.NonNullDecl;
 
 import java.util.WeakHashMap;
 
-import com.azuredoom.levelingcore.compat.PartyProCompat;
+import com.azuredoom.levelingcore.compat.PartyProviders;
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.level.LevelServiceImpl;
 
@@ -62,9 +60,7 @@ public class XPBarHud extends CustomUIHud {
                 Message.raw("LVL: " + currentLevel)
             );
         }
-        if (PluginManager.get().getPlugin(new PluginIdentifier("tsumori", "partypro")) != null) {
-            PartyProCompat.showLvlOnHUD(uuid, levelServiceImpl);
-        }
+        PartyProviders.get().showLevelOnHud(uuid, levelServiceImpl);
         update(false, uiCommandBuilder); // false = don't clear existing UI
     }
 
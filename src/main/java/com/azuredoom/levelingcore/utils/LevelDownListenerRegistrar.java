@@ -10,8 +10,7 @@ import com.hypixel.hytale.server.core.universe.world.SoundUtil;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.util.Config;
 
-import java.util.Collections;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,12 +18,19 @@ import com.azuredoom.levelingcore.LevelingCore;
 import com.azuredoom.levelingcore.api.LevelingCoreApi;
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.lang.CommandLang;
+import com.azuredoom.levelingcore.listeners.ListenerHandle;
+import com.azuredoom.levelingcore.listeners.PlayerLevelHooks;
 
+/**
+ * Binds the level-down effects of a player (stat reset, sound and ability points) to that player through
+ * {@link PlayerLevelHooks}, registered again on every join and removed when the player disconnects.
+ */
 @SuppressWarnings("removal")
 public class LevelDownListenerRegistrar {
 
-    private static final Set<UUID> REGISTERED =
-        Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private static final String HOOK_KEY = "levelingcore:leveldown";
+
+    private static final Map<UUID, ListenerHandle> HANDLES = new ConcurrentHashMap<>();
 
     public static void ensureRegistered(
         Store<EntityStore> store,
@@ -32,35 +38,24 @@ public class LevelDownListenerRegistrar {
         PlayerRef playerRef,
         Config<GUIConfig> config
     ) {
-        // OPTIMIZATION: Check config before marking as registered
+        // OPTIMIZATION: Check config before registering
         if (!config.get().isEnableStatLeveling()) {
             return;
         }
 
         LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService1 -> {
             UUID id = playerRef.getUuid();
-            
-            // OPTIMIZATION: Only mark as registered if the API is present and ready
-            if (!REGISTERED.add(id)) {
-                return;
-            }
 
             LevelUpRewardsUtil.clear(id);
-            
+
             var world = player.getWorld();
             var world_store = world.getEntityStore();
             final int leveldown_sound_index = SoundEvent.getAssetMap().getIndex(config.get().getLevelDownSound());
 
-            store.getExternalData()
-                .getWorld()
-                .execute(() -> levelService1.registerLevelDownListener(((playerId, oldLevel, newLevel) -> {
-                    
-                    // CRITICAL FIX: Ensure the event is for this specific player
-                    // Without this, one player leveling down resets everyone's stats.
-                    if (!playerId.equals(id)) {
-                        return;
-                    }
+            var handle = levelService1.registerPlayerHooks(id, HOOK_KEY, new PlayerLevelHooks() {
 
+                @Override
+                public void onLevelDown(int oldLevel, int newLevel) {
                     StatsUtils.resetStats(store, player);
                     StatsUtils.applyAllStats(store, player, newLevel, config);
 
@@ -69,7 +64,7 @@ public class LevelDownListenerRegistrar {
 
                         var transform = world_store.getStore()
                             .getComponent(playerRef.getReference(), EntityModule.get().getTransformComponentType());
-                        
+
                         if (transform != null) {
                             SoundUtil.playSoundEvent3dToPlayer(
                                 player.getReference(),
@@ -91,29 +86,31 @@ public class LevelDownListenerRegistrar {
                         var totalFromLeveling = Math.max(0, newLevel * pointsPerLevel);
 
                         levelService1.setAbilityPoints(
-                            playerId,
-                            levelService1.getLevel(playerId) == 1 ? pointsPerLevel : totalFromLeveling
+                            id,
+                            levelService1.getLevel(id) == 1 ? pointsPerLevel : totalFromLeveling
                         );
-                        levelService1.setUsedAbilityPoints(playerId, 0);
-                        levelService1.setStr(playerId, 0);
-                        levelService1.setAgi(playerId, 0);
-                        levelService1.setPer(playerId, 0);
-                        levelService1.setVit(playerId, 0);
-                        levelService1.setInt(playerId, 0);
-                        
+                        levelService1.setUsedAbilityPoints(id, 0);
+                        levelService1.setStr(id, 0);
+                        levelService1.setAgi(id, 0);
+                        levelService1.setPer(id, 0);
+                        levelService1.setVit(id, 0);
+                        levelService1.setInt(id, 0);
+
                         playerRef.sendMessage(
                             CommandLang.ABILITY_POINTS.param("ability_points", totalFromLeveling)
                                 .param("player_name", playerRef.getUsername())
                         );
                     }
-
-                    // Reset the alternate state
-                    LevelUpListenerRegistrar.clear(id);
-                })));
+                }
+            });
+            HANDLES.put(id, handle);
         });
     }
 
     public static void clear(UUID playerId) {
-        REGISTERED.remove(playerId);
+        var handle = HANDLES.remove(playerId);
+        if (handle != null) {
+            handle.unregister();
+        }
     }
 }
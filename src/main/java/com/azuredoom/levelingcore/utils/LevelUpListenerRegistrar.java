@@ -10,8 +10,7 @@ import com.hypixel.hytale.server.core.universe.world.SoundUtil;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.util.Config;
 
-import java.util.Collections;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,12 +18,20 @@ import com.azuredoom.levelingcore.LevelingCore;
 import com.azuredoom.levelingcore.api.LevelingCoreApi;
 import com.azuredoom.levelingcore.config.GUIConfig;
 import com.azuredoom.levelingcore.lang.CommandLang;
+import com.azuredoom.levelingcore.listeners.ListenerHandle;
+import com.azuredoom.levelingcore.listeners.PlayerLevelHooks;
 import com.azuredoom.levelingcore.ui.hud.XPBarHud;
 
+/**
+ * Binds the level-up effects of a player (stats, sound, rewards, ability points and HUD) to that player through
+ * {@link PlayerLevelHooks}. The hooks are registered again on every join, replacing the previous session's hooks and
+ * the {@code Player} and {@code Store} they captured, and are removed when the player disconnects.
+ */
 public final class LevelUpListenerRegistrar {
 
-    private static final Set<UUID> REGISTERED =
-        Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private static final String HOOK_KEY = "levelingcore:levelup";
+
+    private static final Map<UUID, ListenerHandle> HANDLES = new ConcurrentHashMap<>();
 
     public static void ensureRegistered(
         Store<EntityStore> store,
@@ -32,39 +39,30 @@ public final class LevelUpListenerRegistrar {
         PlayerRef playerRef,
         Config<GUIConfig> config
     ) {
-        // OPTIMIZATION: Check config before marking as registered
+        // OPTIMIZATION: Check config before registering
         if (!config.get().isEnableStatLeveling()) {
             return;
         }
 
         LevelingCoreApi.getLevelServiceIfPresent().ifPresent(levelService -> {
             UUID id = playerRef.getUuid();
-            
-            // OPTIMIZATION: Only mark as registered if the API is present and ready
-            if (!REGISTERED.add(id)) {
-                return;
-            }
 
             var world = player.getWorld();
             var worldStore = world.getEntityStore();
             final int levelupSoundIndex = SoundEvent.getAssetMap().getIndex(config.get().getLevelUpSound());
 
-            store.getExternalData()
-                .getWorld()
-                .execute(() -> levelService.registerLevelUpListener((playerId, oldLevel, newLevel) -> {
-                    // SECURITY: Ensure the event is for this specific player
-                    if (!playerId.equals(id)) {
-                        return;
-                    }
+            var handle = levelService.registerPlayerHooks(id, HOOK_KEY, new PlayerLevelHooks() {
 
+                @Override
+                public void onLevelUp(int oldLevel, int newLevel) {
                     StatsUtils.applyAllStats(store, player, newLevel, config);
 
                     world.execute(() -> {
                         if (player.getReference() == null) return;
-                        
+
                         var transform = worldStore.getStore()
                             .getComponent(playerRef.getReference(), EntityModule.get().getTransformComponentType());
-                        
+
                         if (transform != null) {
                             SoundUtil.playSoundEvent3dToPlayer(
                                 player.getReference(),
@@ -91,22 +89,25 @@ public final class LevelUpListenerRegistrar {
                         }
                         var totalFromLeveling = Math.max(5, newLevel * pointsPerLevel);
 
-                        levelService.setAbilityPoints(playerId, totalFromLeveling);
+                        levelService.setAbilityPoints(id, totalFromLeveling);
 
                         playerRef.sendMessage(
                             CommandLang.ABILITY_POINTS.param("ability_points", totalFromLeveling)
                                 .param("player_name", playerRef.getUsername())
                         );
                     }
-                    
-                    // Reset the alternate state to allow toggling
-                    LevelDownListenerRegistrar.clear(playerId);
+
                     XPBarHud.updateHud(playerRef);
-                }));
+                }
+            });
+            HANDLES.put(id, handle);
         });
     }
 
     public static void clear(UUID playerId) {
-        REGISTERED.remove(playerId);
+        var handle = HANDLES.remove(playerId);
+        if (handle != null) {
+            handle.unregister();
+        }
     }
 }
@@ -4,74 +4,154 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
 import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
-import com.hypixel.hytale.server.core.modules.entitystats.modifier.Modifier;
-import com.hypixel.hytale.server.core.modules.entitystats.modifier.StaticModifier;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.util.Config;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 
+import java.util.Locale;
 import java.util.Random;
 import java.util.logging.Level;
 
 import com.azuredoom.levelingcore.LevelingCore;
 import com.azuredoom.levelingcore.api.LevelingCoreApi;
 import com.azuredoom.levelingcore.config.GUIConfig;
-import com.azuredoom.levelingcore.level.mobs.CoreLevelMode;
-import com.azuredoom.levelingcore.level.mobs.MobLevelRegistry;
+import com.azuredoom.levelingcore.config.internal.ConfigManager;
+import com.azuredoom.levelingcore.level.formulas.loader.LevelTableLoader;
+import com.azuredoom.levelingcore.level.mobs.LevelModeContext;
+import com.azuredoom.levelingcore.level.mobs.MobHealthModifiers;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.level.mobs.MobLevelWorldContext;
+import com.azuredoom.levelingcore.level.mobs.MobPack;
 
 @SuppressWarnings("removal")
 public class MobLevelingUtil {
 
-    private static final MobLevelRegistry registry = LevelingCore.mobLevelRegistry;
     private static final String MODIFIER_KEY = "LevelingCore_mob_health";
 
     public MobLevelingUtil() {}
 
-    public static int computeDynamicLevel(
-        Config<GUIConfig> config,
+    /**
+     * Recomputes the level of a mob with the mode of its world, clamped between 1 and the formula's max level, and
+     * records the inputs it was computed from.
+     */
+    public static void recomputeLevel(
+        MobLevelWorldContext context,
+        MobLevelComponent data,
         NPCEntity npc,
         TransformComponent transform,
-        Store<EntityStore> store
+        Store<EntityStore> store,
+        long nowMs
     ) {
-        String modeStr = config.get().getLevelMode();
-        if (modeStr == null) {
-            return computeNearbyPlayersMeanLevel(transform, store);
-        }
+        var mode = context.getMode();
+        var computed = mode.computeLevel(new LevelModeContext(npc, transform, store, data.spawnLevel));
+        var position = transform.getPosition();
+
+        data.mode = mode;
+        data.level = Math.max(1, Math.min(context.getMaxLevel(), computed));
+        data.lastRecalcTick = nowMs;
+        data.lastRecalcX = position.getX();
+        data.lastRecalcZ = position.getZ();
+    }
+
+    /**
+     * Recomputes the shared level of a pack with the mode of its world, using the given member as the sample, and
+     * records the inputs it was computed from. Members pick the result up through {@link #applyPackLevel}.
+     */
+    public static void recomputePackLevel(
+        MobLevelWorldContext context,
+        MobPack pack,
+        MobLevelComponent member,
+        NPCEntity npc,
+        TransformComponent transform,
+        Store<EntityStore> store,
+        long nowMs
+    ) {
+        var mode = context.getMode();
+        var position = transform.getPosition();
+
+        pack.mode = mode;
+        pack.level = mode.computeLevel(new LevelModeContext(npc, transform, store, member.spawnLevel));
+        pack.lastRecalcTick = nowMs;
+        pack.lastRecalcX = position.getX();
+        pack.lastRecalcZ = position.getZ();
+    }
 
-        CoreLevelMode mode = CoreLevelMode.fromString(modeStr).orElse(null);
-        if (mode == null) {
-            return computeNearbyPlayersMeanLevel(transform, store);
+    /**
+     * Sets a member's level to the level of its pack plus its own offset, clamped between 1 and the formula's max
+     * level.
+     */
+    public static void applyPackLevel(MobLevelWorldContext context, MobPack pack, MobLevelComponent member) {
+        member.mode = pack.mode;
+        member.level = Math.max(1, Math.min(context.getMaxLevel(), pack.level + member.packOffset));
+    }
+
+    /**
+     * Picks a member's offset from its pack level in {@code [-variance, variance]}, stable for the same mob.
+     */
+    public static int computePackOffset(NPCEntity npc, int variance) {
+        if (variance <= 0)
+            return 0;
+        var uuid = npc.getUuid();
+        var rng = new Random(uuid.getLeastSignificantBits() ^ (uuid.getMostSignificantBits() >>> 1));
+        return rng.nextInt(variance * 2 + 1) - variance;
+    }
+
+    /**
+     * Reads the max level of the configured leveling formula, which also caps mob levels. This touches the config on
+     * disk, so callers cache the result.
+     *
+     * @param fallback The level returned when the config cannot be read.
+     */
+    public static int loadMaxMobLevel(int fallback) {
+        try {
+            var internalConfig = ConfigManager.loadOrCreate(LevelingCore.configPath);
+            var type = internalConfig.formula.type.trim().toUpperCase(Locale.ROOT);
+
+            if (type.equals("LINEAR")) {
+                return internalConfig.formula.linear.maxLevel;
+            } else if (type.equals("TABLE")) {
+                var tableFormula = LevelTableLoader.loadOrCreateFromDataDir(
+                    internalConfig.formula.table.file
+                );
+                return Math.max(1, tableFormula.getMaxLevel());
+            } else if (type.equals("CUSTOM")) {
+                return internalConfig.formula.custom.maxLevel;
+            } else {
+                return internalConfig.formula.exponential.maxLevel;
+            }
+        } catch (Exception e) {
+            return fallback;
         }
+    }
 
-        return switch (mode) {
-            case SPAWN_ONLY -> registry.get(npc.getUuid()).level;
-            case NEARBY_PLAYERS_MEAN -> computeNearbyPlayersMeanLevel(transform, store);
-            case BIOME -> computeBiomeLevel(store);
-            case ZONE -> computeZoneLevel(store);
-            case INSTANCE -> computeInstanceLevel(store);
-        };
+    /**
+     * Applies the health scaling of the given level to a mob's stat map. The stat map is expected to come straight
+     * from the archetype chunk of the calling system, and the modifier is the shared instance for that level.
+     */
+    public static void applyMobScaling(Config<GUIConfig> config, EntityStatMap stats, int level) {
+        applyMobScaling(config, stats, level, true);
     }
 
-    public static void applyMobScaling(Config<GUIConfig> config, NPCEntity npc, int level, Store<EntityStore> store) {
-        var stats = store.getComponent(npc.getReference(), EntityStatMap.getComponentType());
+    /**
+     * Applies the health scaling of the given level to a mob's stat map.
+     *
+     * @param maximize Whether the mob is healed to its new max health. Mobs loaded from a saved chunk keep their
+     *                 current health, so unloading and reloading a chunk never heals them.
+     */
+    public static void applyMobScaling(Config<GUIConfig> config, EntityStatMap stats, int level, boolean maximize) {
         if (stats == null) return;
 
         // ANIMATION FIX: Check health via stats map. Do not scale dead mobs.
-        var healthStat = stats.get(DefaultEntityStatTypes.getHealth());
+        var healthIndex = DefaultEntityStatTypes.getHealth();
+        var healthStat = stats.get(healthIndex);
         if (healthStat != null && healthStat.get() <= 0) {
             return;
         }
 
-        float healthMult = 1F + ((float) level - 1F) * config.get().getMobHealthMultiplier();
-        var healthIndex = DefaultEntityStatTypes.getHealth();
-        var modifier = new StaticModifier(
-            Modifier.ModifierTarget.MAX,
-            StaticModifier.CalculationType.ADDITIVE,
-            healthMult
-        );
-        
+        var modifier = MobHealthModifiers.forLevel(level, config.get().getMobHealthMultiplier());
         stats.putModifier(healthIndex, MODIFIER_KEY, modifier);
-        stats.maximizeStatValue(EntityStatMap.Predictable.SELF, DefaultEntityStatTypes.getHealth());
+        if (maximize)
+            stats.maximizeStatValue(EntityStatMap.Predictable.SELF, healthIndex);
         stats.update();
     }
 
@@ -113,6 +193,15 @@ public class MobLevelingUtil {
         return LevelingCore.mobBiomeMapping.getOrDefault(currentBiome.toLowerCase(), 1);
     }
 
+    public static int computeDistanceLevel(TransformComponent transform, Store<EntityStore> store) {
+        var origin = store.getResource(MobLevelWorldContext.getResourceType())
+            .getDistanceOrigin(store.getExternalData().getWorld().getName());
+        var position = transform.getPosition();
+        var dx = position.getX() - origin.x();
+        var dz = position.getZ() - origin.z();
+        return LevelingCore.mobDistanceRings.levelFor(dx * dx + dz * dz);
+    }
+
     public static int computeNearbyPlayersMeanLevel(TransformComponent transform, Store<EntityStore> store) {
         var world = store.getExternalData().getWorld();
         var players = world.getPlayers();
@@ -0,0 +1,81 @@
+package com.azuredoom.levelingcore.utils;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.nameplate.Nameplate;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+
+import java.util.regex.Pattern;
+
+import com.azuredoom.levelingcore.config.GUIConfig;
+import com.azuredoom.levelingcore.level.mobs.MobLevelComponent;
+import com.azuredoom.levelingcore.level.mobs.MobLevelWorldContext;
+
+/**
+ * Writes mob levels into their nameplates. A nameplate is only written when the applied level differs from the one it
+ * shows, and only while a player is within {@code MobNameplateViewDistance} of the mob, so mobs nobody can see never
+ * generate nameplate updates.
+ */
+public class MobNameplateUtil {
+
+    private static final Pattern LEVEL_PREFIX = Pattern.compile("^(\\[Lv\\. \\d+] )+");
+
+    private MobNameplateUtil() {}
+
+    /**
+     * Updates the nameplate of the mob at {@code index} if its applied level changed since the last write and a player
+     * is close enough to see it.
+     */
+    public static void refresh(
+        Config<GUIConfig> config,
+        MobLevelWorldContext context,
+        MobLevelComponent data,
+        NPCEntity npc,
+        TransformComponent transform,
+        int index,
+        ArchetypeChunk<EntityStore> archetypeChunk,
+        Store<EntityStore> store,
+        CommandBuffer<EntityStore> commandBuffer,
+        long nowMs
+    ) {
+        if (data.nameplateLevel == data.lastAppliedLevel || data.lastAppliedLevel <= 0)
+            return;
+        if (!config.get().isShowMobLevelNameplates())
+            return;
+
+        var viewDistance = (double) config.get().getMobNameplateViewDistance();
+        var position = transform.getPosition();
+        if (!context.hasPlayerWithin(store, position.getX(), position.getZ(), viewDistance * viewDistance, nowMs))
+            return;
+
+        var nameplate = archetypeChunk.getComponent(index, Nameplate.getComponentType());
+        if (data.nameplateBase == null) {
+            // The nameplate is saved with the mob but the base is not, so a reloaded mob still shows its old prefix
+            var current = nameplate == null || nameplate.getText() == null
+                ? ""
+                : LEVEL_PREFIX.matcher(nameplate.getText()).replaceFirst("");
+            data.nameplateBase = current.isBlank() ? defaultName(npc) : current;
+        }
+
+        var text = "[Lv. " + data.lastAppliedLevel + "] " + data.nameplateBase;
+        if (nameplate != null) {
+            nameplate.setText(text);
+        } else {
+            commandBuffer.addComponent(
+                archetypeChunk.getReferenceTo(index),
+                Nameplate.getComponentType(),
+                new Nameplate(text)
+            );
+        }
+        data.nameplateLevel = data.lastAppliedLevel;
+    }
+
+    private static String defaultName(NPCEntity npc) {
+        var typeId = npc.getNPCTypeId();
+        return typeId == null ? "" : typeId.replace('_', ' ');
+    }
+}
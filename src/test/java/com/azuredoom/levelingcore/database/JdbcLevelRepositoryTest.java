@@ -0,0 +1,161 @@
+package com.azuredoom.levelingcore.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.azuredoom.levelingcore.exceptions.LevelingCoreException;
+import com.azuredoom.levelingcore.playerdata.PlayerLevelData;
+import com.azuredoom.levelingcore.playerdata.PlayerStat;
+
+class JdbcLevelRepositoryTest {
+
+    private JdbcDataSource dataSource;
+
+    private JdbcLevelRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        repository = new JdbcLevelRepository(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        execute("SHUTDOWN");
+    }
+
+    private void execute(String sql) throws Exception {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void setColumn(UUID id, String column, long value) throws Exception {
+        execute("UPDATE player_levels SET " + column + " = " + value + " WHERE player_id = '" + id + "'");
+    }
+
+    private static PlayerLevelData player(long xp, int str) {
+        var data = new PlayerLevelData(UUID.randomUUID());
+        data.setXp(xp);
+        data.setStat(PlayerStat.STR, str);
+        return data;
+    }
+
+    @Test
+    void newPlayerIsInsertedWithEveryColumn() {
+        var data = player(50, 3);
+        data.setStat(PlayerStat.CON, 4);
+        data.setAbilityPoints(7);
+        data.setUsedAbilityPoints(2);
+
+        repository.save(data);
+
+        var loaded = repository.load(data.getPlayerId());
+        assertNotNull(loaded);
+        assertEquals(50, loaded.getXp());
+        assertEquals(3, loaded.getStr());
+        assertEquals(4, loaded.getCon());
+        assertEquals(7, loaded.getAbilityPoints());
+        assertEquals(2, loaded.getUsedAbilityPoints());
+        assertEquals(0, data.getDirtyMask());
+    }
+
+    @Test
+    void loadedDataStartsClean() {
+        var data = player(10, 1);
+        repository.save(data);
+
+        assertEquals(0, repository.load(data.getPlayerId()).getDirtyMask());
+        assertNull(repository.load(UUID.randomUUID()));
+    }
+
+    @Test
+    void updateOnlyWritesDirtyColumns() throws Exception {
+        var data = player(50, 3);
+        repository.save(data);
+        setColumn(data.getPlayerId(), "str", 42);
+
+        data.setXp(100);
+        assertEquals(1L << PlayerLevelData.XP, data.getDirtyMask());
+        repository.save(data);
+
+        var loaded = repository.load(data.getPlayerId());
+        assertEquals(100, loaded.getXp());
+        assertEquals(42, loaded.getStr());
+    }
+
+    @Test
+    void saveWithoutChangesDoesNotWrite() throws Exception {
+        var data = player(50, 3);
+        repository.save(data);
+        setColumn(data.getPlayerId(), "xp", 999);
+
+        data.setXp(50);
+        repository.save(data);
+
+        assertEquals(999, repository.load(data.getPlayerId()).getXp());
+    }
+
+    @Test
+    void updateFallsBackToInsertWhenTheRowIsMissing() throws Exception {
+        var data = player(50, 3);
+        repository.save(data);
+        execute("DELETE FROM player_levels");
+
+        data.setXp(60);
+        repository.save(data);
+
+        var loaded = repository.load(data.getPlayerId());
+        assertEquals(60, loaded.getXp());
+        assertEquals(3, loaded.getStr());
+    }
+
+    @Test
+    void saveAllUpdatesExistingAndInsertsNewPlayers() throws Exception {
+        var existing = player(10, 1);
+        repository.save(existing);
+        setColumn(existing.getPlayerId(), "str", 42);
+        existing.setXp(20);
+        var added = player(30, 5);
+
+        repository.saveAll(List.of(existing, added));
+
+        var loadedExisting = repository.load(existing.getPlayerId());
+        assertEquals(20, loadedExisting.getXp());
+        assertEquals(42, loadedExisting.getStr());
+        assertEquals(30, repository.load(added.getPlayerId()).getXp());
+        assertEquals(0, existing.getDirtyMask());
+        assertEquals(0, added.getDirtyMask());
+    }
+
+    @Test
+    void saveAllRollsBackAndKeepsDirtyBitsOnFailure() throws Exception {
+        var existing = player(10, 1);
+        repository.save(existing);
+        execute("ALTER TABLE player_levels ADD CONSTRAINT str_limit CHECK (str < 1000)");
+
+        existing.setXp(20);
+        var rejected = player(30, 5000);
+
+        assertThrows(LevelingCoreException.class, () -> repository.saveAll(List.of(existing, rejected)));
+
+        assertEquals(10, repository.load(existing.getPlayerId()).getXp());
+        assertTrue(repository.exists(existing.getPlayerId()));
+        assertEquals(1L << PlayerLevelData.XP, existing.getDirtyMask());
+        assertNotEquals(0, rejected.getDirtyMask());
+        assertNull(repository.load(rejected.getPlayerId()));
+    }
+}
@@ -0,0 +1,255 @@
+package com.azuredoom.levelingcore.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class LevelingEventBusTest {
+
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    private final List<String> warnings = new CopyOnWriteArrayList<>();
+
+    private final LevelingEventBus bus = new LevelingEventBus(warnings::add);
+
+    @AfterEach
+    void shutdown() {
+        bus.shutdown();
+    }
+
+    private static XpGainEvent gain(long amount) {
+        return new XpGainEvent(PLAYER, amount);
+    }
+
+    private ListenerStats.Snapshot stats(Object owner) {
+        return bus.getListenerStats()
+            .stream()
+            .filter(s -> s.listener().equals(owner.getClass().getName()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Test
+    void deliversInPriorityOrder() {
+        var order = new ArrayList<String>();
+        bus.subscribe(XpGainEvent.class, new Object(), e -> order.add("low"), LevelingEventBus.Delivery.SYNC, -5);
+        bus.subscribe(XpGainEvent.class, new Object(), e -> order.add("high"), LevelingEventBus.Delivery.SYNC, 10);
+        bus.subscribe(XpGainEvent.class, new Object(), e -> order.add("first"), LevelingEventBus.Delivery.SYNC, 0);
+        bus.subscribe(XpGainEvent.class, new Object(), e -> order.add("second"), LevelingEventBus.Delivery.SYNC, 0);
+
+        bus.post(gain(1));
+
+        assertEquals(List.of("high", "first", "second", "low"), order);
+    }
+
+    @Test
+    void onlyDeliversToSubscribersOfTheEventType() {
+        var received = new ArrayList<Object>();
+        bus.subscribe(XpLossEvent.class, new Object(), received::add, LevelingEventBus.Delivery.SYNC, 0);
+
+        bus.post(gain(1));
+
+        assertTrue(received.isEmpty());
+        assertFalse(bus.hasSubscribers(XpGainEvent.class));
+        assertTrue(bus.hasSubscribers(XpLossEvent.class));
+    }
+
+    @Test
+    void failingListenerDoesNotStopTheOthers() {
+        var failing = new Object();
+        var received = new ArrayList<XpGainEvent>();
+        bus.subscribe(XpGainEvent.class, failing, e -> {
+            throw new IllegalStateException("boom");
+        }, LevelingEventBus.Delivery.SYNC, 10);
+        bus.subscribe(XpGainEvent.class, new Object(), received::add, LevelingEventBus.Delivery.SYNC, 0);
+
+        bus.post(gain(1));
+        bus.post(gain(2));
+
+        assertEquals(2, received.size());
+        assertEquals(2, stats(failing).failures());
+        assertEquals(2, warnings.size());
+        assertTrue(warnings.get(0).contains("boom"));
+    }
+
+    @Test
+    void unsubscribedListenerReceivesNothing() {
+        var received = new ArrayList<XpGainEvent>();
+        var subscription = bus.subscribe(
+            XpGainEvent.class,
+            new Object(),
+            received::add,
+            LevelingEventBus.Delivery.SYNC,
+            0
+        );
+
+        subscription.unsubscribe();
+        bus.post(gain(1));
+
+        assertTrue(received.isEmpty());
+        assertFalse(bus.hasSubscribers(XpGainEvent.class));
+    }
+
+    @Test
+    void asyncListenerRunsOnTheBusThread() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var thread = new String[1];
+        bus.subscribe(XpGainEvent.class, new Object(), e -> {
+            thread[0] = Thread.currentThread().getName();
+            latch.countDown();
+        }, LevelingEventBus.Delivery.ASYNC, 0);
+
+        bus.post(gain(1));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("LevelingCore-EventBus", thread[0]);
+    }
+
+    @Test
+    void batchedListenerReceivesEventsInPostingOrder() throws InterruptedException {
+        var batches = new CopyOnWriteArrayList<List<XpGainEvent>>();
+        var latch = new CountDownLatch(1);
+        bus.subscribeBatched(XpGainEvent.class, new Object(), batch -> {
+            batches.add(batch);
+            latch.countDown();
+        }, 0);
+
+        bus.post(gain(1));
+        bus.post(gain(2));
+        bus.post(gain(3));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        var amounts = batches.stream().flatMap(List::stream).map(XpGainEvent::amount).toList();
+        assertEquals(List.of(1L, 2L, 3L), amounts);
+    }
+
+    @Test
+    void shutdownFlushesPendingBatches() {
+        var received = new CopyOnWriteArrayList<XpGainEvent>();
+        bus.subscribeBatched(XpGainEvent.class, new Object(), received::addAll, 0);
+
+        bus.post(gain(1));
+        bus.post(gain(2));
+        bus.shutdown();
+
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    void directListenerIsIsolatedAndCounted() {
+        var owner = new Object();
+        var direct = bus.direct(XpGainEvent.class, owner, e -> {
+            throw new IllegalStateException("boom");
+        });
+
+        direct.accept(gain(1));
+
+        assertEquals(1, stats(owner).calls());
+        assertEquals(1, stats(owner).failures());
+        assertEquals(1, warnings.size());
+    }
+
+    /**
+     * Posts enough events for the given number of deliveries to be sampled.
+     */
+    private void postSampled(int samples) {
+        for (var i = 0; i < samples * LevelingEventBus.SAMPLE_RATE; i++) {
+            bus.post(gain(i));
+        }
+    }
+
+    private static void slow() {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void listenerWithinBudgetIsNotQuarantined() {
+        var owner = new Object();
+        bus.configureBudget(TimeUnit.SECONDS.toNanos(10), 2, LevelingEventBus.QuarantineAction.DISABLE);
+        bus.subscribe(XpGainEvent.class, owner, e -> {}, LevelingEventBus.Delivery.SYNC, 0);
+
+        postSampled(4);
+
+        assertNull(stats(owner).quarantine());
+        assertEquals(4, stats(owner).sampledCalls());
+        assertTrue(bus.hasSubscribers(XpGainEvent.class));
+    }
+
+    @Test
+    void slowSyncListenerMovesToAsyncAfterStrikes() throws InterruptedException {
+        var owner = new Object();
+        var threads = new CopyOnWriteArrayList<String>();
+        bus.configureBudget(1_000L, 2, LevelingEventBus.QuarantineAction.ASYNC);
+        bus.subscribe(XpGainEvent.class, owner, e -> {
+            threads.add(Thread.currentThread().getName());
+            slow();
+        }, LevelingEventBus.Delivery.SYNC, 0);
+
+        postSampled(1);
+        assertNull(stats(owner).quarantine());
+
+        postSampled(1);
+        assertEquals("async", stats(owner).quarantine());
+        assertEquals(1, warnings.size());
+
+        var latch = new CountDownLatch(1);
+        bus.subscribe(XpGainEvent.class, new Object(), e -> latch.countDown(), LevelingEventBus.Delivery.ASYNC, -1);
+        bus.post(gain(1));
+        // The bus thread delivers in order, so the quarantined listener ran before the latch opened
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("LevelingCore-EventBus", threads.get(threads.size() - 1));
+        var syncDeliveries = threads.subList(0, 2 * LevelingEventBus.SAMPLE_RATE);
+        assertTrue(syncDeliveries.stream().noneMatch(t -> t.startsWith("LevelingCore-")));
+    }
+
+    @Test
+    void slowListenerIsDisabledAfterStrikes() {
+        var owner = new Object();
+        var received = new ArrayList<XpGainEvent>();
+        bus.configureBudget(1_000L, 2, LevelingEventBus.QuarantineAction.DISABLE);
+        bus.subscribe(XpGainEvent.class, owner, e -> {
+            received.add(e);
+            slow();
+        }, LevelingEventBus.Delivery.SYNC, 0);
+
+        postSampled(2);
+        var delivered = received.size();
+        bus.post(gain(1));
+
+        assertEquals(2 * LevelingEventBus.SAMPLE_RATE, delivered);
+        assertEquals(delivered, received.size());
+        assertEquals("disabled", stats(owner).quarantine());
+        assertFalse(bus.hasSubscribers(XpGainEvent.class));
+    }
+
+    @Test
+    void disabledDirectListenerIgnoresCalls() {
+        var owner = new Object();
+        var received = new ArrayList<XpGainEvent>();
+        bus.configureBudget(1_000L, 1, LevelingEventBus.QuarantineAction.DISABLE);
+        var direct = bus.direct(XpGainEvent.class, owner, e -> {
+            received.add(e);
+            slow();
+        });
+
+        for (var i = 0; i < LevelingEventBus.SAMPLE_RATE; i++) {
+            direct.accept(gain(i));
+        }
+        direct.accept(gain(1));
+
+        assertEquals(LevelingEventBus.SAMPLE_RATE, received.size());
+        assertEquals("disabled", stats(owner).quarantine());
+    }
+}
@@ -0,0 +1,55 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class MobDistanceRingsTest {
+
+    private static final MobDistanceRings RINGS = MobDistanceRings.compile(Map.of(100, 5, 200, 10, 500, 20));
+
+    private static double sq(double distance) {
+        return distance * distance;
+    }
+
+    @Test
+    void mobsInsideTheFirstRingAreLevelOne() {
+        assertEquals(1, RINGS.levelFor(0));
+        assertEquals(1, RINGS.levelFor(sq(99.999)));
+    }
+
+    @Test
+    void ringStartBelongsToThatRing() {
+        assertEquals(5, RINGS.levelFor(sq(100)));
+        assertEquals(10, RINGS.levelFor(sq(200)));
+        assertEquals(20, RINGS.levelFor(sq(500)));
+    }
+
+    @Test
+    void distancesJustBelowARingStartBelongToThePreviousRing() {
+        assertEquals(5, RINGS.levelFor(sq(199.999)));
+        assertEquals(10, RINGS.levelFor(sq(499.999)));
+    }
+
+    @Test
+    void distancesPastTheLastRingUseTheLastRing() {
+        assertEquals(20, RINGS.levelFor(sq(100_000)));
+    }
+
+    @Test
+    void ringAtOriginCoversEveryDistance() {
+        var rings = MobDistanceRings.compile(Map.of(0, 3, 50, 7));
+        assertEquals(3, rings.levelFor(0));
+        assertEquals(3, rings.levelFor(sq(49)));
+        assertEquals(7, rings.levelFor(sq(50)));
+    }
+
+    @Test
+    void emptyTableAlwaysYieldsLevelOne() {
+        var rings = MobDistanceRings.compile(Map.of());
+        assertEquals(0, rings.size());
+        assertEquals(1, rings.levelFor(sq(1000)));
+    }
+}
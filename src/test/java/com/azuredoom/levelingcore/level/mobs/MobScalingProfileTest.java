@@ -0,0 +1,66 @@
+package com.azuredoom.levelingcore.level.mobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class MobScalingProfileTest {
+
+    private static MobScalingProfile profile() {
+        var rows = new TreeMap<Integer, float[]>();
+        rows.put(1, new float[] { 0F, 1F, 1F });
+        rows.put(11, new float[] { 10F, 2F, 3F });
+        rows.put(21, new float[] { 30F, 4F, 3F });
+        return MobScalingProfile.compile(rows);
+    }
+
+    @Test
+    void rowsAreReturnedExactly() {
+        var profile = profile();
+        assertEquals(0F, profile.health(1));
+        assertEquals(10F, profile.health(11));
+        assertEquals(4F, profile.damage(21));
+        assertEquals(3F, profile.xp(21));
+    }
+
+    @Test
+    void levelsBetweenRowsAreInterpolated() {
+        var profile = profile();
+        assertEquals(5F, profile.health(6), 1e-5F);
+        assertEquals(1.5F, profile.damage(6), 1e-5F);
+        assertEquals(2F, profile.xp(6), 1e-5F);
+        assertEquals(20F, profile.health(16), 1e-5F);
+        assertEquals(3F, profile.damage(16), 1e-5F);
+    }
+
+    @Test
+    void levelsOutsideTheTableAreClamped() {
+        var profile = profile();
+        assertEquals(profile.health(1), profile.health(0));
+        assertEquals(profile.health(1), profile.health(-5));
+        assertEquals(30F, profile.health(500));
+        assertEquals(4F, profile.damage(500));
+    }
+
+    @Test
+    void firstRowAboveLevelOneCoversTheLevelsBelowIt() {
+        var rows = new TreeMap<Integer, float[]>();
+        rows.put(5, new float[] { 2F, 3F, 4F });
+        var profile = MobScalingProfile.compile(rows);
+        assertEquals(2F, profile.health(1));
+        assertEquals(3F, profile.damage(3));
+        assertEquals(4F, profile.xp(5));
+    }
+
+    @Test
+    void legacyScalingIsLinear() {
+        var legacy = MobScalingProfile.LEGACY;
+        assertEquals(0F, legacy.health(1));
+        assertEquals(4F, legacy.health(5));
+        assertEquals(1F, legacy.damage(0));
+        assertEquals(5F, legacy.damage(5));
+        assertEquals(1F, legacy.xp(50));
+    }
+}
@@ -0,0 +1,60 @@
+package com.azuredoom.levelingcore.level.xp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class XpFarmSketchTest {
+
+    private static final long HALF_LIFE_MS = 600_000L;
+
+    private static final long START_MS = 1_000L;
+
+    private static final long KEY = XpFarmSketch.key(1L, 2L, 3L);
+
+    private static XpFarmSketch farmed(int kills) {
+        var sketch = new XpFarmSketch();
+        for (var i = 0; i < kills; i++) {
+            sketch.incrementAndEstimate(KEY, START_MS, HALF_LIFE_MS);
+        }
+        return sketch;
+    }
+
+    @Test
+    void countsEveryKillWithinAHalfLife() {
+        var sketch = farmed(200);
+        assertEquals(201, sketch.incrementAndEstimate(KEY, START_MS + HALF_LIFE_MS - 1, HALF_LIFE_MS));
+    }
+
+    @Test
+    void halvesOncePerHalfLife() {
+        var sketch = farmed(200);
+        assertEquals(101, sketch.incrementAndEstimate(KEY, START_MS + HALF_LIFE_MS, HALF_LIFE_MS));
+    }
+
+    @Test
+    void halvesOnceForEveryElapsedHalfLife() {
+        var sketch = farmed(200);
+        assertEquals(26, sketch.incrementAndEstimate(KEY, START_MS + 3 * HALF_LIFE_MS, HALF_LIFE_MS));
+    }
+
+    @Test
+    void clearsAfterALongAbsence() {
+        var sketch = farmed(200);
+        assertEquals(1, sketch.incrementAndEstimate(KEY, START_MS + 86_400_000L, HALF_LIFE_MS));
+    }
+
+    @Test
+    void decayKeepsItsPhase() {
+        var sketch = farmed(200);
+        // 1.5 half-lives decay once, the next half-life ends at 2 half-lives rather than 2.5
+        assertEquals(101, sketch.incrementAndEstimate(KEY, START_MS + HALF_LIFE_MS * 3 / 2, HALF_LIFE_MS));
+        assertEquals(51, sketch.incrementAndEstimate(KEY, START_MS + 2 * HALF_LIFE_MS, HALF_LIFE_MS));
+    }
+
+    @Test
+    void keysAreCountedSeparately() {
+        var sketch = farmed(50);
+        assertEquals(1, sketch.incrementAndEstimate(XpFarmSketch.key(1L, 2L, 4L), START_MS, HALF_LIFE_MS));
+    }
+}